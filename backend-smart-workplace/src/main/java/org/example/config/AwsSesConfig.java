@@ -5,11 +5,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.SesAsyncClient;
+import software.amazon.awssdk.services.ses.SesAsyncClientBuilder;
+
+import java.net.URI;
 
 @Configuration
 @ConfigurationProperties(prefix = "aws.ses")
@@ -22,16 +29,49 @@ public class AwsSesConfig {
     private String accessKey;
     private String secretKey;
 
+    /**
+     * Optional endpoint override, e.g. a local SES stand-in.
+     */
+    private String endpoint;
+
+    /**
+     * Account send rate (emails per second); the SES sandbox default is 1, production starts at 14.
+     */
+    private double maxSendRate = 14;
+
+    private int maxInFlight = 50;
+
+    /**
+     * Attempts per email, including the first, when SES throttles or the send
+     * fails transiently (5xx, connection errors, timeouts).
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Created on the first send rather than at startup; the Netty event loop and
+     * credential setup are not needed until the daily summary goes out.
+     */
     @Bean
-    public SesClient sesClient() {
-        log.info("Initializing AWS SES client for region {}", region);
+    @Lazy
+    public SesAsyncClient sesAsyncClient() {
+        log.info("Initializing AWS SES async client for region {}", region);
 
         AwsBasicCredentials credentials =
                 AwsBasicCredentials.create(accessKey, secretKey);
 
-        return SesClient.builder()
+        // Throttling and transient failures are retried by EmailDispatcher against the
+        // shared rate limiter, so the SDK's own retries are switched off.
+        SesAsyncClientBuilder builder = SesAsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                .build();
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxInFlight))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .build());
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,33 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jobs.chunked")
+@Data
+public class ChunkedJobConfig {
+
+    /**
+     * Users per chunk; each chunk is processed and committed in one transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Virtual-thread workers per node claiming chunks concurrently.
+     */
+    private int workers = 4;
+
+    /**
+     * How long a claimed chunk stays reserved before another worker may take it over.
+     */
+    private Duration claimLease = Duration.ofMinutes(5);
+
+    /**
+     * Failed attempts after which a chunk is parked as FAILED.
+     */
+    private int maxAttempts = 3;
+}
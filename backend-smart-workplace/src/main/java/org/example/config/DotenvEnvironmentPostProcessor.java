@@ -0,0 +1,42 @@
+package org.example.config;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import io.github.cdimascio.dotenv.DotenvEntry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exposes a {@code .env} file in the working directory as the lowest-priority
+ * property source, so local runs can keep credentials (AWS_ACCESS_KEY,
+ * DATABASE_URL, ...) out of application.yml. Real environment variables and
+ * system properties win. Runs once, before any bean is created; without a
+ * {@code .env} file it only checks that the file is absent.
+ */
+public class DotenvEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String FILE_NAME = ".env";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Path directory = Path.of(System.getProperty("user.dir"));
+        if (!Files.isRegularFile(directory.resolve(FILE_NAME))) {
+            return;
+        }
+        Dotenv dotenv = Dotenv.configure()
+                .directory(directory.toString())
+                .filename(FILE_NAME)
+                .load();
+        Map<String, Object> properties = new HashMap<>();
+        for (DotenvEntry entry : dotenv.entries(Dotenv.Filter.DECLARED_IN_ENV_FILE)) {
+            properties.put(entry.getKey(), entry.getValue());
+        }
+        environment.getPropertySources().addLast(new MapPropertySource("dotenv", properties));
+    }
+}
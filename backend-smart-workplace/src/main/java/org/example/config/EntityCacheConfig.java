@@ -0,0 +1,99 @@
+package org.example.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.Data;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * In-process (Caffeine) JCache regions backing Hibernate's second-level and
+ * query caches. Only the regions declared here exist; caching an entity
+ * without adding its region fails at startup.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "entity-cache")
+@Data
+public class EntityCacheConfig {
+
+    // Must match the region named in @Cache on User.
+    private static final String USERS_REGION = "users";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * Users kept in the second-level cache.
+     */
+    private long userMaxEntries = 10_000;
+
+    /**
+     * How long a cached user is served before it is read again; bounds staleness
+     * from writes made by other instances.
+     */
+    private Duration userTtl = Duration.ofMinutes(10);
+
+    /**
+     * Cached query results (entity ids per query and parameters).
+     */
+    private long queryMaxEntries = 10_000;
+
+    /**
+     * How long a cached query result is served. Results are also invalidated as
+     * soon as a table they read from is written on this instance.
+     */
+    private Duration queryTtl = Duration.ofMinutes(10);
+
+    /**
+     * A user's last-login time is written at most once per this interval, so
+     * authenticated requests do not keep invalidating the cached user.
+     */
+    private Duration lastLoginWriteInterval = Duration.ofMinutes(15);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        // A manager per application context, so contexts started side by side
+        // (tests) neither share nor close each other's regions.
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("entity-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(USERS_REGION, region(userMaxEntries, userTtl));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(queryMaxEntries, queryTtl));
+        // Hibernate compares query results against these timestamps; they must
+        // outlive every cached result, so this region is never evicted.
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>().setStatisticsEnabled(true));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            // Region hit/miss counts are published as hibernate.* meters.
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
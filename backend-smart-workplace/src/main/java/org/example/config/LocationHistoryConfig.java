@@ -0,0 +1,38 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "location.history")
+@Data
+public class LocationHistoryConfig {
+
+    /**
+     * Maximum fixes written per JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How often buffered fixes are flushed to the history table.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Fixes held in memory before callers write their own fix synchronously.
+     */
+    private int bufferCapacity = 10_000;
+
+    /**
+     * Whole months of history kept; older monthly partitions are dropped.
+     */
+    private int retentionMonths = 6;
+
+    /**
+     * Monthly partitions created ahead of the current month.
+     */
+    private int partitionsAhead = 2;
+}
@@ -3,7 +3,13 @@ package org.example.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 @Configuration
 @ConfigurationProperties(prefix = "meal-booking")
@@ -11,6 +17,12 @@ public class MealBookingConfig {
 
     private LocalTime cutoffTime = LocalTime.of(22, 0);
 
+    private Set<DayOfWeek> weekendDays = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private List<LocalDate> holidays = new ArrayList<>();
+
+    private Lunch lunch = new Lunch();
+
     public LocalTime getCutoffTime() {
         return cutoffTime;
     }
@@ -18,4 +30,51 @@ public class MealBookingConfig {
     public void setCutoffTime(LocalTime cutoffTime) {
         this.cutoffTime = cutoffTime;
     }
+
+    public Set<DayOfWeek> getWeekendDays() {
+        return weekendDays;
+    }
+
+    public void setWeekendDays(Set<DayOfWeek> weekendDays) {
+        this.weekendDays = weekendDays;
+    }
+
+    public List<LocalDate> getHolidays() {
+        return holidays;
+    }
+
+    public void setHolidays(List<LocalDate> holidays) {
+        this.holidays = holidays;
+    }
+
+    public Lunch getLunch() {
+        return lunch;
+    }
+
+    public void setLunch(Lunch lunch) {
+        this.lunch = lunch;
+    }
+
+    public static class Lunch {
+
+        private LocalTime startTime = LocalTime.of(12, 0);
+
+        private LocalTime endTime = LocalTime.of(14, 30);
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public void setStartTime(LocalTime startTime) {
+            this.startTime = startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        public void setEndTime(LocalTime endTime) {
+            this.endTime = endTime;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "metrics.scrape")
+@Data
+public class MetricsScrapeConfig {
+
+    /**
+     * HTTP Basic user Prometheus scrapes {@code /actuator/prometheus} with.
+     */
+    private String username = "prometheus";
+
+    /**
+     * Scrape password; while unset the endpoint refuses every request.
+     */
+    private String password;
+}
@@ -0,0 +1,61 @@
+package org.example.config;
+
+import org.example.dto.BookingSummaryRowDTO;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reflection and resource hints for the native image that Spring AOT cannot
+ * infer from the bean definitions. Registered at build time only; on the JVM
+ * they have no effect.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        // Serialized by Jackson, also when handed back inside a Map (test and
+        // scheduler controllers), where AOT cannot see the type.
+        private static final String[] BOUND_PACKAGES = {"org.example.dto", "org.example.entity"};
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(new AssignableTypeFilter(Object.class));
+            for (String basePackage : BOUND_PACKAGES) {
+                for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                    binding.registerReflectionHints(hints.reflection(),
+                            ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+                }
+            }
+
+            // JPQL constructor expressions are instantiated reflectively by Hibernate.
+            hints.reflection().registerType(BookingSummaryRowDTO.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // Second-level cache: the JCache provider is looked up by class name and
+            // reads its defaults from Typesafe config.
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("reference.conf");
+
+            // AWS SDK: interceptor lists and endpoint rule sets are classpath resources.
+            hints.resources().registerPattern("software/amazon/awssdk/**/execution.interceptors");
+            hints.resources().registerPattern("codegen-resources/**");
+
+            // Swagger UI static files served by springdoc.
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        }
+    }
+}
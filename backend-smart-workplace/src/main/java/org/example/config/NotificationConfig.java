@@ -0,0 +1,55 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notifications")
+@Data
+public class NotificationConfig {
+
+    /**
+     * How long the due-backlog count is reused between gauge reads (scrapes).
+     */
+    private Duration backlogCacheTtl = Duration.ofSeconds(15);
+
+    /**
+     * How long an SSE stream stays open before the client has to reconnect.
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Interval between keep-alive comments on open streams; also how fast dead
+     * connections are noticed and dropped.
+     */
+    private Duration streamHeartbeat = Duration.ofSeconds(25);
+
+    /**
+     * How long a cached unread count is trusted before it is recounted; bounds
+     * drift from changes made on other instances.
+     */
+    private Duration unreadCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Largest inbox page a client may request.
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * Sent notifications scheduled longer ago than this move to the archive.
+     */
+    private Duration archiveAfter = Duration.ofDays(90);
+
+    /**
+     * Rows moved per archive transaction.
+     */
+    private int archiveBatchSize = 1000;
+
+    /**
+     * Time budget for one archive run; what is left is picked up the next night.
+     */
+    private Duration archiveMaxRunTime = Duration.ofMinutes(20);
+}
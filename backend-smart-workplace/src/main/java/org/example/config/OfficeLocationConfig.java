@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "office")
 @Getter
@@ -12,5 +14,35 @@ import org.springframework.stereotype.Component;
 public class OfficeLocationConfig {
     private double latitude;
     private double longitude;
+
+    /**
+     * Radius a fix must be within (accuracy included) to count as entering.
+     */
     private double radiusMeters;
+
+    /**
+     * Radius a fix must be beyond (accuracy included) to count as leaving;
+     * larger than {@code radiusMeters} so fixes near the edge do not flap.
+     */
+    private double exitRadiusMeters = 600;
+
+    /**
+     * Fixes less accurate than this are ignored.
+     */
+    private double maxAccuracyMeters = 100;
+
+    /**
+     * How long a user must stay inside before the entry is confirmed.
+     */
+    private Duration minDwell = Duration.ofMinutes(2);
+
+    /**
+     * Fixes closer than this to the last stored one are treated as duplicates...
+     */
+    private double duplicateDistanceMeters = 10;
+
+    /**
+     * ...unless the last stored fix is older than this.
+     */
+    private Duration duplicateWindow = Duration.ofMinutes(5);
 }
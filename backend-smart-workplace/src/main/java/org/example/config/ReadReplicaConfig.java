@@ -0,0 +1,73 @@
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions ({@code @Transactional(readOnly = true)}, and
+ * repository reads outside a transaction) to a replica pool and everything
+ * else to the primary. Active only when {@code replica.url} is set; otherwise
+ * the single auto-configured data source is used.
+ * <p>
+ * The connection is picked lazily, on the first statement, by which time the
+ * transaction has marked it read-only. Replicas lag the primary, so a read
+ * that must see a write just made has to run in a read-write transaction.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "replica")
+@ConditionalOnProperty(prefix = "replica", name = "url")
+@Data
+public class ReadReplicaConfig {
+
+    private String url;
+    private String username;
+    private String password;
+
+    /**
+     * How long read-only work stays on the primary after the replica could not
+     * be reached, before the replica is tried again.
+     */
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource, Clock clock) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primaryDataSource);
+        routing.setReadOnlyDataSource(
+                new ReplicaFallbackDataSource(replicaDataSource, primaryDataSource, retryAfter, clock));
+        return routing;
+    }
+}
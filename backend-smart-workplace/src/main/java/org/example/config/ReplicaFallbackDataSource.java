@@ -0,0 +1,48 @@
+package org.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Hands out replica connections, or primary connections while the replica
+ * cannot be reached. After a failed attempt the replica is skipped for
+ * {@code retryAfter}, so read-only work does not wait out a connection
+ * timeout on every request during an outage.
+ */
+@Slf4j
+class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final Duration retryAfter;
+    private final Clock clock;
+    private volatile Instant replicaDownUntil = Instant.MIN;
+
+    ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryAfter, Clock clock) {
+        super(replica);
+        this.primary = primary;
+        this.retryAfter = retryAfter;
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (clock.instant().isBefore(replicaDownUntil)) {
+            return primary.getConnection();
+        }
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            replicaDownUntil = clock.instant().plus(retryAfter);
+            log.warn("Read replica unavailable, using the primary for read-only work for the next {}: {}",
+                    retryAfter, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+}
@@ -1,25 +1,77 @@
 package org.example.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.SupplierJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * Metrics, both the Prometheus scrape and the {@code metrics} endpoint, are
+     * for the scraper only, which cannot obtain Azure tokens; it authenticates with HTTP Basic credentials from
+     * {@link MetricsScrapeConfig} instead.
+     */
+    @Bean
+    @Order(1)
+    SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http, MetricsScrapeConfig scrape) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus", "/actuator/metrics/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults());
+        if (scrape.getPassword() == null || scrape.getPassword().isBlank()) {
+            http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll());
+        } else {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+            provider.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername(scrape.getUsername())
+                    .password("{noop}" + scrape.getPassword())
+                    .build()));
+            http
+                    .authenticationManager(new ProviderManager(provider))
+                    .authorizeHttpRequests(auth -> auth.anyRequest().authenticated());
+        }
+        return http.build();
+    }
+
     // HTTP request authentication
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -37,6 +89,65 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Chooses the token source from the runtime properties rather than through
+     * Boot's conditional decoders, whose conditions AOT and native builds fix
+     * at build time. A {@code public-key-location} (local runs, smoke tests)
+     * wins; otherwise the Azure issuer's keys are fetched on first use. Either
+     * way tokens get the checks Boot's decoders apply: the configured
+     * {@code jws-algorithms}, the issuer when {@code issuer-uri} is set, and
+     * the {@code audiences} when any are listed.
+     */
+    @Bean
+    JwtDecoder jwtDecoder(OAuth2ResourceServerProperties properties) throws IOException {
+        OAuth2ResourceServerProperties.Jwt jwt = properties.getJwt();
+        OAuth2TokenValidator<Jwt> validator = jwtValidator(jwt);
+        if (jwt.getPublicKeyLocation() != null) {
+            NimbusJwtDecoder decoder;
+            try (InputStream key = jwt.getPublicKeyLocation().getInputStream()) {
+                decoder = NimbusJwtDecoder.withPublicKey(RsaKeyConverters.x509().convert(key))
+                        .signatureAlgorithm(SignatureAlgorithm.from(singleAlgorithm(jwt)))
+                        .build();
+            }
+            decoder.setJwtValidator(validator);
+            return decoder;
+        }
+        if (!StringUtils.hasText(jwt.getIssuerUri())) {
+            throw new IllegalStateException("No JWT key source: set spring.security.oauth2.resourceserver.jwt."
+                    + "issuer-uri or public-key-location");
+        }
+        return new SupplierJwtDecoder(() -> {
+            NimbusJwtDecoder decoder = NimbusJwtDecoder.withIssuerLocation(jwt.getIssuerUri())
+                    .jwsAlgorithms(algorithms -> jwt.getJwsAlgorithms().stream()
+                            .map(SignatureAlgorithm::from)
+                            .forEach(algorithms::add))
+                    .build();
+            decoder.setJwtValidator(validator);
+            return decoder;
+        });
+    }
+
+    private static OAuth2TokenValidator<Jwt> jwtValidator(OAuth2ResourceServerProperties.Jwt jwt) {
+        List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+        validators.add(StringUtils.hasText(jwt.getIssuerUri())
+                ? JwtValidators.createDefaultWithIssuer(jwt.getIssuerUri())
+                : JwtValidators.createDefault());
+        List<String> audiences = jwt.getAudiences();
+        if (!audiences.isEmpty()) {
+            validators.add(new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+                    aud -> aud != null && !Collections.disjoint(aud, audiences)));
+        }
+        return new DelegatingOAuth2TokenValidator<>(validators);
+    }
+
+    private static String singleAlgorithm(OAuth2ResourceServerProperties.Jwt jwt) {
+        List<String> algorithms = jwt.getJwsAlgorithms();
+        if (algorithms.size() != 1) {
+            throw new IllegalStateException("public-key-location needs exactly one jws-algorithm, got " + algorithms);
+        }
+        return algorithms.get(0);
+    }
+
     @Bean
     JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
@@ -11,13 +11,19 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.dto.LocationFixDTO;
 import org.example.dto.LocationUpdateRequestDTO;
 import org.example.security.SecurityUserResolver;
+import org.example.service.LocationHistoryService;
 import org.example.service.UserLocationService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/location")
 @RequiredArgsConstructor
@@ -26,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class LocationController {
 
     private final UserLocationService locationService;
+    private final LocationHistoryService locationHistoryService;
     private final SecurityUserResolver securityUserResolver;
 
     @PostMapping("/update")
@@ -67,4 +74,27 @@ public class LocationController {
         locationService.saveLocation(userId, request);
         return ResponseEntity.ok("Location updated successfully");
     }
+
+    @GetMapping("/history")
+    @Operation(
+            summary = "Get location history for a day",
+            description = "Returns every location fix the current user reported on the given date, oldest first. Used to review lunch attendance disputes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Location history retrieved successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid date"
+            )
+    })
+    public ResponseEntity<List<LocationFixDTO>> getLocationHistory(
+            @Parameter(description = "Date to fetch history for", example = "2026-01-26", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        Long userId = securityUserResolver.resolveUser().getId();
+        return ResponseEntity.ok(locationHistoryService.findHistory(userId, date));
+    }
 }
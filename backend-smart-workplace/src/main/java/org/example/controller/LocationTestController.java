@@ -68,9 +68,11 @@ public class LocationTestController {
 
         UserLocationService testService = new UserLocationService(
                 locationService.repository,
-                locationService.mealBookingRepository,
-                locationService.userRepository,
-                testClock
+                locationService.locationHistoryService,
+                locationService.bookingPolicy,
+                locationService.geofenceTracker,
+                testClock,
+                locationService.meterRegistry
         );
 
         testService.saveLocation(userId, request);
@@ -151,9 +153,11 @@ public class LocationTestController {
 
                 UserLocationService testService = new UserLocationService(
                         locationService.repository,
-                        locationService.mealBookingRepository,
-                        locationService.userRepository,
-                        testClock
+                        locationService.locationHistoryService,
+                        locationService.bookingPolicy,
+                        locationService.geofenceTracker,
+                        testClock,
+                        locationService.meterRegistry
                 );
 
                 LocationUpdateRequestDTO request = LocationUpdateRequestDTO.builder()
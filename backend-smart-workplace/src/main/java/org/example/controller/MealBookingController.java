@@ -18,6 +18,8 @@ import org.example.dto.RangeMealBookingResponseDTO;
 import org.example.dto.UpcomingMealsRequestDTO;
 import org.example.dto.UpcomingMealsResponseDTO;
 import org.example.dto.CancelMealRequestDTO;
+import org.example.dto.CancelRangeMealRequestDTO;
+import org.example.dto.RangeMealCancellationResponseDTO;
 import org.example.entity.User;
 import org.example.repository.UserRepository;
 import org.example.security.SecurityUserResolver;
@@ -243,4 +245,59 @@ public class MealBookingController {
 
         return ResponseEntity.ok(response);
     }
+
+
+    @PostMapping("/cancel-range")
+    @Operation(
+            summary = "Cancel meal bookings for a date range",
+            description = "Cancels all BOOKED meals in the range in one operation. Tomorrow is left untouched after the 10 PM cutoff."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Range cancellation processed successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = RangeMealCancellationResponseDTO.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                    {
+                                      "message": "Meals cancelled successfully from 2026-01-26 to 2026-01-30",
+                                      "cancelledCount": 5
+                                    }
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid range",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = """
+                                    {
+                                      "message": "No booked meals found between 2026-01-26 and 2026-01-30",
+                                      "cancelledCount": null
+                                    }
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<RangeMealCancellationResponseDTO> cancelRangeMeals(
+            @Valid @RequestBody CancelRangeMealRequestDTO request
+    ) {
+        User user = securityUserResolver.resolveUser();
+
+        return ResponseEntity.ok(
+                mealBookingService.cancelRangeMeals(
+                        user,
+                        request.getStartDate(),
+                        request.getEndDate()
+                )
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package org.example.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.MarkNotificationsReadRequestDTO;
+import org.example.dto.NotificationPageDTO;
+import org.example.security.SecurityUserResolver;
+import org.example.service.NotificationInboxService;
+import org.example.service.NotificationStreamHub;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notifications", description = "APIs for receiving user notifications")
+@SecurityRequirement(name = "bearerAuth")
+public class NotificationController {
+
+    private final NotificationStreamHub notificationStreamHub;
+    private final NotificationInboxService notificationInboxService;
+    private final SecurityUserResolver securityUserResolver;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream notifications",
+            description = "Opens a Server-Sent Events stream of the current user's notifications as they are sent. "
+                    + "Each event is named after the notification type and carries a NotificationResponseDTO. "
+                    + "The stream closes after the configured timeout; clients should reconnect."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    public SseEmitter streamNotifications() {
+        Long userId = securityUserResolver.resolveUser().getId();
+        return notificationStreamHub.subscribe(userId);
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get notification inbox",
+            description = "Returns the current user's sent notifications, newest first. "
+                    + "Pass the returned nextCursor to fetch the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Inbox page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<NotificationPageDTO> getInbox(
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (capped by the server)", example = "20")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        Long userId = securityUserResolver.resolveUser().getId();
+        try {
+            return ResponseEntity.ok(notificationInboxService.getInbox(userId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/unread-count")
+    @Operation(
+            summary = "Get unread notification count",
+            description = "Returns the number of unread notifications for the badge, served from an in-memory counter."
+    )
+    public ResponseEntity<Map<String, Long>> getUnreadCount() {
+        Long userId = securityUserResolver.resolveUser().getId();
+        return ResponseEntity.ok(Map.of("unreadCount", notificationInboxService.getUnreadCount(userId)));
+    }
+
+    @PostMapping("/mark-read")
+    @Operation(
+            summary = "Mark notifications as read",
+            description = "Marks the given notifications of the current user as read and returns the remaining unread count."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notifications marked as read"),
+            @ApiResponse(responseCode = "400", description = "Missing or too many notification IDs")
+    })
+    public ResponseEntity<Map<String, Long>> markRead(@Valid @RequestBody MarkNotificationsReadRequestDTO request) {
+        Long userId = securityUserResolver.resolveUser().getId();
+        notificationInboxService.markRead(userId, request.getIds());
+        return ResponseEntity.ok(Map.of("unreadCount", notificationInboxService.getUnreadCount(userId)));
+    }
+
+    @PostMapping("/mark-all-read")
+    @Operation(
+            summary = "Mark all notifications as read",
+            description = "Marks every unread notification of the current user as read."
+    )
+    public ResponseEntity<Map<String, Long>> markAllRead() {
+        Long userId = securityUserResolver.resolveUser().getId();
+        notificationInboxService.markAllRead(userId);
+        return ResponseEntity.ok(Map.of("unreadCount", notificationInboxService.getUnreadCount(userId)));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.entity.BookingStatus;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSummaryDTO {
+
+    private LocalDate date;
+    private String subject;
+    private String htmlBody;
+    private String textBody;
+    private Map<BookingStatus, Integer> statusCounts;
+    private String attachmentFileName;
+    // Temporary file, deleted once the email has been built from it.
+    private Path csvAttachment;
+
+    public int getCount(BookingStatus status) {
+        return statusCounts.getOrDefault(status, 0);
+    }
+}
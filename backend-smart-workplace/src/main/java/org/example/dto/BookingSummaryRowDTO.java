@@ -0,0 +1,23 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.entity.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat row for the HR booking summary, selected straight from the
+ * meal_bookings/users join so no entity graph is loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSummaryRowDTO {
+
+    private String name;
+    private String email;
+    private LocalDateTime bookedAt;
+    private BookingStatus status;
+}
@@ -0,0 +1,32 @@
+package org.example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request for cancelling meals for a date range")
+public class CancelRangeMealRequestDTO {
+
+    @NotNull(message = "Start date is required")
+    @Schema(
+            description = "Start date of the cancellation range",
+            example = "2026-01-26",
+            format = "date"
+    )
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @Schema(
+            description = "End date of the cancellation range",
+            example = "2026-01-30",
+            format = "date"
+    )
+    private LocalDate endDate;
+}
@@ -0,0 +1,29 @@
+package org.example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A single location fix reported by a user, as kept in the location history")
+public class LocationFixDTO {
+
+    @Schema(description = "User who reported the fix", example = "3")
+    private Long userId;
+
+    @Schema(description = "Latitude coordinate", example = "18.5204")
+    private Double latitude;
+
+    @Schema(description = "Longitude coordinate", example = "73.8567")
+    private Double longitude;
+
+    @Schema(description = "When the fix was received", example = "2026-01-26T13:05:00")
+    private LocalDateTime recordedAt;
+}
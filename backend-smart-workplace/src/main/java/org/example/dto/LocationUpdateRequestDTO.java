@@ -3,6 +3,7 @@ package org.example.dto;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,4 +22,8 @@ public class LocationUpdateRequestDTO {
     @DecimalMin(value = "-180.0", message = "Longitude must be >= -180")
     @DecimalMax(value = "180.0", message = "Longitude must be <= 180")
     private Double longitude;
+
+    // Horizontal accuracy reported by the device, in meters; optional.
+    @PositiveOrZero(message = "Accuracy must be >= 0")
+    private Double accuracy;
 }
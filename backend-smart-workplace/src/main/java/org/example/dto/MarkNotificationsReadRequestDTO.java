@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request for marking notifications as read")
+public class MarkNotificationsReadRequestDTO {
+
+    @NotEmpty(message = "At least one notification ID is required")
+    @Size(max = 500, message = "At most 500 notifications can be marked at once")
+    @Schema(description = "IDs of the notifications to mark as read", example = "[41, 42]")
+    private List<Long> ids;
+}
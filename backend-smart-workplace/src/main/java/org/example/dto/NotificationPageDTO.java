@@ -0,0 +1,28 @@
+package org.example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of the user's notification inbox, newest first")
+public class NotificationPageDTO {
+
+    @Schema(description = "Notifications on this page")
+    private List<NotificationResponseDTO> items;
+
+    @Schema(description = "Cursor for the next page; null when this is the last page", example = "MjAyNi0wMS0yNVQxODowMDo0Mg")
+    private String nextCursor;
+
+    @Schema(description = "Unread notifications in the whole inbox", example = "3")
+    private long unreadCount;
+}
@@ -1,4 +1,54 @@
 package org.example.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.entity.Notification;
+import org.example.entity.NotificationType;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Notification delivered to the user")
 public class NotificationResponseDTO {
+
+    @Schema(description = "Notification ID", example = "42")
+    private Long id;
+
+    @Schema(description = "Notification title", example = "Meal Reminder")
+    private String title;
+
+    @Schema(description = "Notification message", example = "You haven't booked your meal for tomorrow.")
+    private String message;
+
+    @Schema(description = "Notification type", example = "MEAL_REMINDER")
+    private NotificationType type;
+
+    @Schema(description = "When the notification was scheduled", example = "2026-01-25T18:00:00")
+    private LocalDateTime scheduledAt;
+
+    @Schema(description = "When the notification was sent", example = "2026-01-25T18:00:05")
+    private LocalDateTime sentAt;
+
+    @Schema(description = "When the user read the notification; null while unread", example = "2026-01-25T18:10:00")
+    private LocalDateTime readAt;
+
+    public static NotificationResponseDTO from(Notification notification) {
+        return NotificationResponseDTO.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .scheduledAt(notification.getScheduledAt())
+                .sentAt(notification.getSentAt())
+                .readAt(notification.getReadAt())
+                .build();
+    }
 }
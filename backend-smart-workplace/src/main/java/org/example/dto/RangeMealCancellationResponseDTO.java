@@ -0,0 +1,27 @@
+package org.example.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response for range meal cancellation operations")
+public class RangeMealCancellationResponseDTO {
+
+    @Schema(description = "Message describing the result")
+    private String message;
+
+    @Schema(description = "Number of booked meals that were cancelled", example = "5")
+    private Integer cancelledCount;
+
+    public static RangeMealCancellationResponseDTO success(String message, int cancelledCount) {
+        return new RangeMealCancellationResponseDTO(message, cancelledCount);
+    }
+
+    public static RangeMealCancellationResponseDTO failure(String message) {
+        return new RangeMealCancellationResponseDTO(message, null);
+    }
+}
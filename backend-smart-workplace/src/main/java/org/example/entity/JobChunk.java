@@ -0,0 +1,60 @@
+package org.example.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One user-ID range of a chunked job run. Workers claim a chunk with a lease and
+ * mark it DONE in the same transaction as the chunk's work.
+ */
+@Entity
+@Table(
+        name = "job_chunks",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"run_key", "from_user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_job_chunks_run_key_status", columnList = "run_key, status")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_key", nullable = false, length = 128)
+    private String runKey;
+
+    @Column(name = "from_user_id", nullable = false)
+    private Long fromUserId;
+
+    @Column(name = "to_user_id", nullable = false)
+    private Long toUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobChunkStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    @Column(name = "processed_rows")
+    private Integer processedRows;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
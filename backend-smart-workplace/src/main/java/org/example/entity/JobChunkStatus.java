@@ -0,0 +1,8 @@
+package org.example.entity;
+
+public enum JobChunkStatus {
+    PENDING,
+    CLAIMED,
+    DONE,
+    FAILED
+}
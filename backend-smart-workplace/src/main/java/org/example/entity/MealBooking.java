@@ -12,6 +12,9 @@ import java.time.LocalDateTime;
         name = "meal_bookings",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "booking_date"})
+        },
+        indexes = {
+                @Index(name = "idx_meal_bookings_date_status", columnList = "booking_date, status")
         }
 )
 @Getter
@@ -27,7 +30,7 @@ public class MealBooking {
     @Schema(description = "Unique identifier for the meal booking", example = "1")
     private Long id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     @Schema(description = "User who made the booking")
     private User user;
@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+                @Index(name = "idx_notifications_sent_scheduled_at", columnList = "sent, scheduled_at"),
+                @Index(name = "idx_notifications_user_scheduled_at", columnList = "user_id, scheduled_at, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -49,4 +55,8 @@ public class Notification {
     @Column(name = "sent_at")
     @Schema(description = "Timestamp when the notification was actually sent to the user's device", example = "2026-01-25T15:31:00")
     private LocalDateTime sentAt;
+
+    @Column(name = "read_at")
+    @Schema(description = "Timestamp when the user marked the notification as read; null while unread", example = "2026-01-25T16:00:00")
+    private LocalDateTime readAt;
 }
@@ -0,0 +1,6 @@
+package org.example.event;
+
+public enum GeofenceTransition {
+    ENTER,
+    EXIT
+}
@@ -0,0 +1,27 @@
+package org.example.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Published when a user crosses the office geofence. Listeners run
+ * synchronously on the thread that handled the location update.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class GeofenceTransitionEvent {
+
+    private final Long userId;
+    private final GeofenceTransition transition;
+    private final LocalDateTime occurredAt;
+
+    /**
+     * Time spent inside before an EXIT; zero for ENTER.
+     */
+    private final Duration dwell;
+}
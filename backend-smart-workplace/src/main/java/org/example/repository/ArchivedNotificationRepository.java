@@ -0,0 +1,24 @@
+package org.example.repository;
+
+import org.example.entity.ArchivedNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ArchivedNotificationRepository extends JpaRepository<ArchivedNotification, Long> {
+
+    /**
+     * Copies the given notifications into the archive in one statement.
+     */
+    @Modifying
+    @Query("""
+            insert into ArchivedNotification (id, userId, type, title, scheduledAt, sentAt, readAt)
+            select n.id, n.userId, n.type, n.title, n.scheduledAt, n.sentAt, n.readAt
+            from Notification n
+            where n.id in :ids
+            """)
+    int copyFromNotifications(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,83 @@
+package org.example.repository;
+
+import org.example.entity.JobChunk;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JobChunkRepository extends JpaRepository<JobChunk, Long> {
+
+    boolean existsByRunKey(String runKey);
+
+    /**
+     * Chunks that are pending, or whose claim lease has run out (worker died mid-chunk).
+     */
+    @Query("""
+            select c.id from JobChunk c
+            where c.runKey = :runKey
+              and (c.status = org.example.entity.JobChunkStatus.PENDING
+                   or (c.status = org.example.entity.JobChunkStatus.CLAIMED and c.claimedUntil < :now))
+            order by c.fromUserId
+            """)
+    List<Long> findClaimableIds(@Param("runKey") String runKey, @Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update JobChunk c
+            set c.status = org.example.entity.JobChunkStatus.CLAIMED,
+                c.claimedBy = :owner, c.claimedUntil = :until, c.updatedAt = :now
+            where c.id = :id
+              and (c.status = org.example.entity.JobChunkStatus.PENDING
+                   or (c.status = org.example.entity.JobChunkStatus.CLAIMED and c.claimedUntil < :now))
+            """)
+    int claim(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("until") Instant until
+    );
+
+    /**
+     * Marks a claimed chunk DONE. Returns 0 if the claim was lost, in which case the
+     * caller rolls back the chunk's work.
+     */
+    @Modifying
+    @Query("""
+            update JobChunk c
+            set c.status = org.example.entity.JobChunkStatus.DONE,
+                c.processedRows = :processedRows, c.claimedUntil = null, c.updatedAt = :now
+            where c.id = :id
+              and c.claimedBy = :owner
+              and c.status = org.example.entity.JobChunkStatus.CLAIMED
+            """)
+    int complete(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("processedRows") int processedRows,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("""
+            update JobChunk c
+            set c.attempts = c.attempts + 1,
+                c.status = case when c.attempts + 1 >= :maxAttempts
+                                then org.example.entity.JobChunkStatus.FAILED
+                                else org.example.entity.JobChunkStatus.PENDING end,
+                c.claimedUntil = null, c.updatedAt = :now
+            where c.id = :id
+              and c.claimedBy = :owner
+              and c.status = org.example.entity.JobChunkStatus.CLAIMED
+            """)
+    int releaseFailed(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("now") Instant now
+    );
+}
@@ -0,0 +1,152 @@
+package org.example.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.LocationFixDTO;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Append-only store for location fixes, written with plain JDBC batches.
+ * <p>
+ * On PostgreSQL {@code location_fixes} is range-partitioned by month on
+ * {@code recorded_at}, so retention drops whole partitions instead of deleting
+ * rows. Other databases (H2 in tests) get a plain table and a DELETE fallback.
+ * The table is managed here rather than through JPA because Hibernate's schema
+ * update cannot create partitioned tables.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class LocationFixRepository {
+
+    private static final String TABLE = "location_fixes";
+    private static final Pattern PARTITION_NAME = Pattern.compile("location_fixes_y(\\d{4})m(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean partitioned;
+
+    public void createSchema() {
+        String columns = """
+                user_id bigint not null,
+                latitude double precision not null,
+                longitude double precision not null,
+                recorded_at timestamp not null
+                """;
+        if (isPartitioned()) {
+            jdbcTemplate.execute("create table if not exists " + TABLE + " (" + columns
+                    + ") partition by range (recorded_at)");
+            // Catches rows for months whose partition has not been created yet.
+            jdbcTemplate.execute("create table if not exists " + TABLE + "_default partition of " + TABLE + " default");
+        } else {
+            jdbcTemplate.execute("create table if not exists " + TABLE + " (" + columns + ")");
+        }
+        jdbcTemplate.execute("create index if not exists idx_location_fixes_user_recorded on "
+                + TABLE + " (user_id, recorded_at)");
+    }
+
+    public void createPartition(YearMonth month) {
+        if (!isPartitioned()) {
+            return;
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("create table if not exists " + partitionName(month)
+                + " partition of " + TABLE
+                + " for values from ('" + from + "') to ('" + to + "')");
+    }
+
+    /**
+     * Removes every fix recorded before {@code cutoff}; returns the number of
+     * partitions dropped (or rows deleted on unpartitioned databases). Expired
+     * rows in the default partition, which has no month to drop, are deleted.
+     */
+    public int purgeBefore(YearMonth cutoff) {
+        Timestamp before = Timestamp.valueOf(cutoff.atDay(1).atStartOfDay());
+        if (!isPartitioned()) {
+            return jdbcTemplate.update("delete from " + TABLE + " where recorded_at < ?", before);
+        }
+
+        int deleted = jdbcTemplate.update("delete from " + TABLE + "_default where recorded_at < ?", before);
+        if (deleted > 0) {
+            log.info("Deleted {} expired location fixes from the default partition", deleted);
+        }
+
+        List<String> partitions = jdbcTemplate.queryForList("""
+                select child.relname
+                from pg_inherits
+                join pg_class parent on parent.oid = pg_inherits.inhparent
+                join pg_class child on child.oid = pg_inherits.inhrelid
+                where parent.relname = ?
+                """, String.class, TABLE);
+
+        int dropped = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.isBefore(cutoff)) {
+                jdbcTemplate.execute("drop table if exists " + partition);
+                log.info("Dropped location history partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    public void insertBatch(List<LocationFixDTO> fixes) {
+        jdbcTemplate.batchUpdate(
+                "insert into " + TABLE + " (user_id, latitude, longitude, recorded_at) values (?, ?, ?, ?)",
+                fixes,
+                fixes.size(),
+                (ps, fix) -> {
+                    ps.setLong(1, fix.getUserId());
+                    ps.setDouble(2, fix.getLatitude());
+                    ps.setDouble(3, fix.getLongitude());
+                    ps.setTimestamp(4, Timestamp.valueOf(fix.getRecordedAt()));
+                }
+        );
+    }
+
+    public List<LocationFixDTO> findByUserIdBetween(Long userId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query("""
+                        select user_id, latitude, longitude, recorded_at
+                        from location_fixes
+                        where user_id = ? and recorded_at >= ? and recorded_at < ?
+                        order by recorded_at
+                        """,
+                (rs, rowNum) -> LocationFixDTO.builder()
+                        .userId(rs.getLong("user_id"))
+                        .latitude(rs.getDouble("latitude"))
+                        .longitude(rs.getDouble("longitude"))
+                        .recordedAt(rs.getTimestamp("recorded_at").toLocalDateTime())
+                        .build(),
+                userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return partitioned;
+    }
+}
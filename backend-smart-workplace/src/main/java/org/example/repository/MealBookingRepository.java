@@ -1,45 +1,113 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.dto.BookingSummaryRowDTO;
 import org.example.entity.BookingStatus;
 import org.example.entity.MealBooking;
-import org.example.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface MealBookingRepository extends JpaRepository<MealBooking, Long> {
 
-    boolean existsByUserAndBookingDate(User user, LocalDate bookingDate);
-    Optional<MealBooking> findByUserAndBookingDate(User user, LocalDate date);
+    /**
+     * Booking lookups are keyed by user id rather than by {@link org.example.entity.User},
+     * so callers that only know the id (location fixes, geofence events)
+     * neither load nor proxy the user; {@code user.id} resolves to the
+     * {@code user_id} column without a join.
+     */
+    Optional<MealBooking> findByUserIdAndBookingDate(Long userId, LocalDate date);
 
-    boolean existsByUserAndBookingDateBetween(
-            User user,
-            LocalDate start,
-            LocalDate end
-    );
+    /**
+     * Summary rows for one date, user name and email joined in the same statement.
+     * Must be consumed inside a transaction and closed after use.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new org.example.dto.BookingSummaryRowDTO(u.name, u.email, b.bookedAt, b.status)
+            from MealBooking b
+            join b.user u
+            where b.bookingDate = :bookingDate
+            order by u.name, b.id
+            """)
+    Stream<BookingSummaryRowDTO> streamSummaryRowsByBookingDate(@Param("bookingDate") LocalDate bookingDate);
 
-    List<MealBooking> findByBookingDateAndStatus(
-            LocalDate bookingDate,
-            BookingStatus status
+    /**
+     * Status of the user's booking for the date, if there is one. Reads the
+     * status column only, so checking for an existing booking does not load
+     * the row.
+     */
+    @Query("""
+            select b.status from MealBooking b
+            where b.user.id = :userId and b.bookingDate = :bookingDate
+            """)
+    Optional<BookingStatus> findStatusByUserIdAndBookingDate(
+            @Param("userId") Long userId,
+            @Param("bookingDate") LocalDate bookingDate
     );
 
-    boolean existsByUserAndBookingDateAndStatus(
-            User user,
-            LocalDate bookingDate,
-            BookingStatus status
-    );
+    List<MealBooking> findByUserIdAndBookingDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
 
-    Optional<MealBooking> findByUserAndBookingDateAndStatus(
-            User user,
-            LocalDate bookingDate,
-            BookingStatus status
-    );
+    /**
+     * BOOKED dates of the user from {@code fromDate} onwards, latest first.
+     * Only the date column is selected.
+     */
+    @Query("""
+            select b.bookingDate from MealBooking b
+            where b.user.id = :userId
+              and b.bookingDate >= :fromDate
+              and b.status = org.example.entity.BookingStatus.BOOKED
+            order by b.bookingDate desc
+            """)
+    List<LocalDate> findBookedDatesFrom(@Param("userId") Long userId, @Param("fromDate") LocalDate fromDate);
 
+    /**
+     * Cancels every BOOKED meal of the user in the inclusive range with a single UPDATE.
+     * {@code excludedDate} is left untouched (tomorrow once the cutoff has passed);
+     * pass a date outside the range to cancel the whole range.
+     */
+    @Modifying
+    @Query("""
+            update MealBooking b
+            set b.status = org.example.entity.BookingStatus.CANCELLED
+            where b.user.id = :userId
+              and b.bookingDate between :startDate and :endDate
+              and b.bookingDate <> :excludedDate
+              and b.status = org.example.entity.BookingStatus.BOOKED
+            """)
+    int cancelBookedMealsInRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("excludedDate") LocalDate excludedDate
+    );
 
-    List<MealBooking> findByUserOrderByBookingDateDesc(User user);
+    /**
+     * Marks every BOOKED meal on {@code date} whose user never became available
+     * for lunch as DEFAULT, with a single UPDATE.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update MealBooking b
+            set b.status = org.example.entity.BookingStatus.DEFAULT
+            where b.bookingDate = :date
+              and b.status = org.example.entity.BookingStatus.BOOKED
+              and b.availableForLunch = false
+            """)
+    int markNoShowsAsDefault(@Param("date") LocalDate date);
 }
-
-
-
@@ -1,9 +1,14 @@
 package org.example.repository;
 
 import org.example.entity.Notification;
-import org.example.entity.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository
@@ -13,10 +18,71 @@ public interface NotificationRepository
             LocalDateTime now
     );
 
-    boolean existsByUserIdAndTypeAndScheduledAtBetween(
-            Long userId,
-            NotificationType type,
-            LocalDateTime start,
-            LocalDateTime end
+    long countBySentFalseAndScheduledAtBefore(
+            LocalDateTime now
+    );
+
+    /**
+     * Newest sent notifications first; the first page of the inbox.
+     */
+    @Query("""
+            select n from Notification n
+            where n.userId = :userId and n.sent = true
+            order by n.scheduledAt desc, n.id desc
+            """)
+    List<Notification> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Inbox page strictly after the (scheduledAt, id) cursor in newest-first order.
+     */
+    @Query("""
+            select n from Notification n
+            where n.userId = :userId and n.sent = true
+              and (n.scheduledAt < :scheduledAt
+                   or (n.scheduledAt = :scheduledAt and n.id < :id))
+            order by n.scheduledAt desc, n.id desc
+            """)
+    List<Notification> findInboxBefore(
+            @Param("userId") Long userId,
+            @Param("scheduledAt") LocalDateTime scheduledAt,
+            @Param("id") Long id,
+            Pageable pageable
     );
-}
\ No newline at end of file
+
+    long countByUserIdAndSentTrueAndReadAtIsNull(Long userId);
+
+    @Modifying
+    @Query("""
+            update Notification n
+            set n.readAt = :now
+            where n.userId = :userId and n.id in :ids
+              and n.sent = true and n.readAt is null
+            """)
+    int markRead(
+            @Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+            update Notification n
+            set n.readAt = :now
+            where n.userId = :userId and n.sent = true and n.readAt is null
+            """)
+    int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Oldest sent notifications scheduled before the cutoff; one archive batch.
+     */
+    @Query("""
+            select n.id from Notification n
+            where n.sent = true and n.scheduledAt < :cutoff
+            order by n.scheduledAt, n.id
+            """)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
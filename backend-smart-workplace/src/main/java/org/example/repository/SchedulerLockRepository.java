@@ -0,0 +1,43 @@
+package org.example.repository;
+
+import org.example.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * Takes over the lock if its lease has expired (or it is already ours).
+     * Returns 1 when the lock was taken, 0 otherwise.
+     */
+    @Modifying
+    @Query("""
+            update SchedulerLock l
+            set l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until
+            where l.name = :name
+              and (l.lockedUntil <= :now or l.lockedBy = :owner)
+            """)
+    int tryAcquire(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") Instant now,
+            @Param("until") Instant until
+    );
+
+    @Modifying
+    @Query("""
+            update SchedulerLock l
+            set l.lockedUntil = :until
+            where l.name = :name
+              and l.lockedBy = :owner
+            """)
+    int extend(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("until") Instant until
+    );
+}
@@ -3,9 +3,9 @@ package org.example.repository;
 import org.example.entity.UserLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
+/**
+ * Latest known position per user (one row each, keyed by user id); the full
+ * history lives in {@link LocationFixRepository}.
+ */
 public interface UserLocationRepository extends JpaRepository<UserLocation, Long> {
-
-    Optional<UserLocation> findTopByUserIdOrderByUpdatedAtDesc(Long userId);
 }
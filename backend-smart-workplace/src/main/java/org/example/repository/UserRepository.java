@@ -1,13 +1,91 @@
 package org.example.repository;
 
+import org.example.entity.NotificationType;
+import org.example.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.example.entity.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * Runs on every authenticated request; the result (the user's id) is kept in
+     * the query cache and the user itself comes from the second-level cache.
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByExternalId(String externalId);
 
-}
\ No newline at end of file
+    /**
+     * Keyset page of user IDs, used to cut user-wide jobs into ID ranges.
+     */
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Users in the ID range with no booking for {@code bookingDate} who have not
+     * already received a notification of {@code type} in the given window.
+     */
+    @Query("""
+            select u.id from User u
+            where u.id between :fromId and :toId
+              and u.role = :role
+              and not exists (
+                  select b.id from MealBooking b
+                  where b.user = u and b.bookingDate = :bookingDate)
+              and not exists (
+                  select n.id from Notification n
+                  where n.userId = u.id and n.type = :type
+                    and n.scheduledAt between :notifiedFrom and :notifiedTo)
+            order by u.id
+            """)
+    List<Long> findUnbookedUnnotifiedIds(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("role") Role role,
+            @Param("bookingDate") LocalDate bookingDate,
+            @Param("type") NotificationType type,
+            @Param("notifiedFrom") LocalDateTime notifiedFrom,
+            @Param("notifiedTo") LocalDateTime notifiedTo
+    );
+
+    /**
+     * Users in the ID range with no booking at all between the two dates who have not
+     * already received a notification of {@code type} in the given window.
+     */
+    @Query("""
+            select u.id from User u
+            where u.id between :fromId and :toId
+              and u.role = :role
+              and not exists (
+                  select b.id from MealBooking b
+                  where b.user = u and b.bookingDate between :startDate and :endDate)
+              and not exists (
+                  select n.id from Notification n
+                  where n.userId = u.id and n.type = :type
+                    and n.scheduledAt between :notifiedFrom and :notifiedTo)
+            order by u.id
+            """)
+    List<Long> findInactiveUnnotifiedIds(
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId,
+            @Param("role") Role role,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("type") NotificationType type,
+            @Param("notifiedFrom") LocalDateTime notifiedFrom,
+            @Param("notifiedTo") LocalDateTime notifiedTo
+    );
+}
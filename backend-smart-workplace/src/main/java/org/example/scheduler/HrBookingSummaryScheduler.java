@@ -2,17 +2,21 @@ package org.example.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.dto.BookingSummaryDTO;
 import org.example.entity.BookingStatus;
-import org.example.entity.MealBooking;
-import org.example.repository.MealBookingRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.BookingSummaryService;
 import org.example.service.EmailService;
+import org.example.service.SchedulerLockService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -21,36 +25,57 @@ import java.util.List;
 @Profile("aws-email")
 public class HrBookingSummaryScheduler {
 
-    private final MealBookingRepository mealBookingRepository;
+    private final BookingSummaryService bookingSummaryService;
     private final EmailService emailService;
+    private final BookingPolicy bookingPolicy;
+    private final Clock clock;
+    private final SchedulerMetrics schedulerMetrics;
+    private final SchedulerLockService schedulerLockService;
+
+    private static final String JOB = "hr_booking_summary";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+    // Covers the dispatcher's retries; well inside the lease.
+    private static final Duration SEND_TIMEOUT = Duration.ofMinutes(5);
 
     @Scheduled(cron = "0 30 22 * * *", zone = "Asia/Kolkata")
     public void sendDailyBookingSummary() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, this::sendSummary));
+    }
+
+    private int sendSummary() {
         try {
-            LocalDate tomorrow = LocalDate.now().plusDays(1);
-            if (tomorrow.getDayOfWeek().getValue() >= 6) {
-                log.info("Skipping HR booking summary for weekend date: {}", tomorrow);
-                return;
+            LocalDate tomorrow = LocalDate.now(clock).plusDays(1);
+            if (!bookingPolicy.isWorkingDay(tomorrow)) {
+                log.info("Skipping HR booking summary for non-working day: {}", tomorrow);
+                return 0;
             }
 
-            List<MealBooking> bookings = mealBookingRepository.findByBookingDateAndStatus(
-                    tomorrow,
-                    BookingStatus.BOOKED
-            );
+            BookingSummaryDTO summary = bookingSummaryService.buildSummary(tomorrow);
+            int booked = summary.getCount(BookingStatus.BOOKED);
 
-            log.info("Found {} bookings for tomorrow ({})", bookings.size(), tomorrow);
+            log.info("Found {} bookings ({} cancelled) for tomorrow ({})",
+                    booked, summary.getCount(BookingStatus.CANCELLED), tomorrow);
 
-            if (bookings.isEmpty()) {
+            if (booked == 0) {
                 log.info("No bookings found for tomorrow. Sending empty summary email to HR.");
             } else {
-                log.info("Sending booking summary email to HR for {} bookings", bookings.size());
+                log.info("Sending booking summary email to HR for {} bookings", booked);
             }
 
-            emailService.sendBookingSummaryEmail(bookings);
+            // Wait for SES, so a failed send fails this run rather than passing unnoticed.
+            emailService.sendBookingSummaryEmail(summary)
+                    .orTimeout(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
             log.info("HR booking summary email sent successfully for {}", tomorrow);
 
+            return summary.getStatusCounts().values().stream().mapToInt(Integer::intValue).sum();
+
         } catch (Exception e) {
             log.error("Failed to send HR booking summary email", e);
+            schedulerMetrics.recordFailure(JOB);
+            return 0;
         }
     }
 }
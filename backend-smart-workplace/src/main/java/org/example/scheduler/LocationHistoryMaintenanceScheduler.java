@@ -0,0 +1,42 @@
+package org.example.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.service.LocationHistoryService;
+import org.example.service.SchedulerLockService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "spring.task.scheduling", name = "enabled", havingValue = "true")
+public class LocationHistoryMaintenanceScheduler {
+
+    private final LocationHistoryService locationHistoryService;
+    private final SchedulerMetrics schedulerMetrics;
+    private final SchedulerLockService schedulerLockService;
+
+    private static final String JOB = "location_history_maintenance";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    /**
+     * Runs daily so a missed night is caught up the next day; both steps are idempotent.
+     */
+    @Scheduled(cron = "0 15 2 * * *", zone = "Asia/Kolkata")
+    public void maintainPartitions() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, this::maintain));
+    }
+
+    private int maintain() {
+        locationHistoryService.ensurePartitions();
+        int purged = locationHistoryService.purgeExpired();
+        log.info("Location history maintenance done: {} expired partitions purged", purged);
+        return purged;
+    }
+}
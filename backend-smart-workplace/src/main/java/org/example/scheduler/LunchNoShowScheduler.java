@@ -0,0 +1,65 @@
+package org.example.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.MealBookingConfig;
+import org.example.repository.MealBookingRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.SchedulerLockService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.CronTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Marks booked meals DEFAULT when the user never entered the office during the
+ * lunch window. Attendance itself comes from geofence ENTER/EXIT events
+ * ({@code LunchAttendanceListener}); this sweep runs once at
+ * {@code meal-booking.lunch.end-time}, so no ping has to arrive at that moment.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "spring.task.scheduling", name = "enabled", havingValue = "true")
+public class LunchNoShowScheduler implements SchedulingConfigurer {
+
+    private final MealBookingRepository mealBookingRepository;
+    private final MealBookingConfig mealBookingConfig;
+    private final BookingPolicy bookingPolicy;
+    private final SchedulerMetrics schedulerMetrics;
+    private final SchedulerLockService schedulerLockService;
+    private final Clock clock;
+
+    private static final String JOB = "lunch_no_show";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        LocalTime end = mealBookingConfig.getLunch().getEndTime();
+        String cron = end.getSecond() + " " + end.getMinute() + " " + end.getHour() + " * * *";
+        registrar.addCronTask(new CronTask(this::markNoShows, new CronTrigger(cron, clock.getZone())));
+    }
+
+    public void markNoShows() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, this::markDefaults));
+    }
+
+    private int markDefaults() {
+        LocalDate today = LocalDate.now(clock);
+        if (!bookingPolicy.isWorkingDay(today)) {
+            return 0;
+        }
+        int defaulted = mealBookingRepository.markNoShowsAsDefault(today);
+        log.info("Marked {} bookings as DEFAULT for {} (no office entry during lunch)", defaulted, today);
+        return defaulted;
+    }
+}
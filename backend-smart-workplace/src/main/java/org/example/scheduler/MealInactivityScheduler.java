@@ -3,67 +3,83 @@ package org.example.scheduler;
 import lombok.RequiredArgsConstructor;
 import org.example.entity.NotificationType;
 import org.example.entity.Role;
-import org.example.repository.MealBookingRepository;
-import org.example.repository.NotificationRepository;
 import org.example.repository.UserRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.ChunkedJobRunner;
 import org.example.service.NotificationService;
+import org.example.service.SchedulerLockService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "spring.task.scheduling", name = "enabled", havingValue = "true")
 public class MealInactivityScheduler {
 
+    private static final String JOB = "meal_inactivity";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+    private static final int INACTIVITY_DAYS = 3;
+
     private final UserRepository userRepository;
-    private final MealBookingRepository mealBookingRepository;
-    private final NotificationRepository notificationRepository;
     private final NotificationService notificationService;
+    private final BookingPolicy bookingPolicy;
+    private final SchedulerMetrics schedulerMetrics;
+    private final SchedulerLockService schedulerLockService;
+    private final ChunkedJobRunner chunkedJobRunner;
     private final Clock clock;
 
-    private static final int INACTIVITY_DAYS = 3;
-
-    @Scheduled(cron = "0 0 10 * * *", zone = "Asia/Kolkata")
+    /**
+     * Fires every 10 minutes during the 10:00 hour; later firings only pick up
+     * chunks an interrupted run left unfinished.
+     */
+    @Scheduled(cron = "0 0/10 10 * * *", zone = "Asia/Kolkata")
     public void sendInactivityNudges() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, this::nudge));
+    }
+
+    private int nudge() {
 
         LocalDate today = LocalDate.now(clock);
-        LocalDate fromDate = today.minusDays(INACTIVITY_DAYS);
+        if (!bookingPolicy.isWorkingDay(today)) return 0;
+
+        // Look back over working days only, so a long weekend or holiday
+        // does not count as inactivity.
+        LocalDate fromDate = bookingPolicy.workingDaysBefore(today, INACTIVITY_DAYS);
         LocalDate toDate = today.minusDays(1);
 
         LocalDateTime scheduledAt = LocalDateTime.now(clock);
 
-        userRepository.findAll().forEach(user -> {
-
-            if (user.getRole() != Role.USER) return;
-
-            boolean hasRecentBooking =
-                    mealBookingRepository.existsByUserAndBookingDateBetween(
-                            user, fromDate, toDate
-                    );
-
-            if (hasRecentBooking) return;
-
-            boolean alreadyNotifiedToday =
-                    notificationRepository.existsByUserIdAndTypeAndScheduledAtBetween(
-                            user.getId(),
-                            NotificationType.INACTIVITY_NUDGE,
-                            today.atStartOfDay(),
-                            today.atTime(23, 59, 59)
-                    );
-            if (alreadyNotifiedToday) return;
-
-            notificationService.schedule(
-                    user.getId(),
-                    "We miss you!",
-                    "You haven’t booked meals in the last few days.",
+        return chunkedJobRunner.run(JOB + ":" + today, (fromUserId, toUserId) -> {
+            List<Long> userIds = userRepository.findInactiveUnnotifiedIds(
+                    fromUserId,
+                    toUserId,
+                    Role.USER,
+                    fromDate,
+                    toDate,
                     NotificationType.INACTIVITY_NUDGE,
-                    scheduledAt
+                    today.atStartOfDay(),
+                    today.atTime(23, 59, 59)
             );
+
+            for (Long userId : userIds) {
+                notificationService.schedule(
+                        userId,
+                        "We miss you!",
+                        "You haven’t booked meals in the last few days.",
+                        NotificationType.INACTIVITY_NUDGE,
+                        scheduledAt
+                );
+            }
+            return userIds.size();
         });
     }
 }
@@ -3,63 +3,76 @@ package org.example.scheduler;
 import lombok.RequiredArgsConstructor;
 import org.example.entity.NotificationType;
 import org.example.entity.Role;
-import org.example.repository.MealBookingRepository;
-import org.example.repository.NotificationRepository;
 import org.example.repository.UserRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.ChunkedJobRunner;
 import org.example.service.NotificationService;
+import org.example.service.SchedulerLockService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(prefix = "spring.task.scheduling", name = "enabled", havingValue = "true")
 public class MealReminderScheduler {
 
+    private static final String JOB = "meal_reminder";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
     private final UserRepository userRepository;
-    private final MealBookingRepository mealBookingRepository;
-    private final NotificationRepository notificationRepository;
     private final NotificationService notificationService;
+    private final BookingPolicy bookingPolicy;
+    private final SchedulerMetrics schedulerMetrics;
+    private final SchedulerLockService schedulerLockService;
+    private final ChunkedJobRunner chunkedJobRunner;
     private final Clock clock;
 
-    @Scheduled(cron = "0 0 18 * * *", zone = "Asia/Kolkata")
+    /**
+     * Fires every 10 minutes during the 18:00 hour; later firings only pick up
+     * chunks an interrupted run left unfinished.
+     */
+    @Scheduled(cron = "0 0/10 18 * * *", zone = "Asia/Kolkata")
     public void sendMealBookingReminders() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, this::remind));
+    }
 
-        LocalTime cutoffTime = LocalTime.of(22, 0);
-        if (LocalTime.now(clock).isAfter(cutoffTime)) return;
-
-        LocalDate tomorrow = LocalDate.now(clock).plusDays(1);
-        if (tomorrow.getDayOfWeek().getValue() >= 6) return;
-
-        LocalDateTime scheduledAt = LocalDateTime.now(clock);
-
-        userRepository.findAll().forEach(user -> {
+    private int remind() {
 
-            if (user.getRole() != Role.USER) return;
+        if (bookingPolicy.isAfterCutoff(LocalTime.now(clock))) return 0;
 
-            boolean alreadyBooked =
-                    mealBookingRepository.existsByUserAndBookingDate(user, tomorrow);
-            if (alreadyBooked) return;
-            boolean alreadyRemindedToday =
-                    notificationRepository.existsByUserIdAndTypeAndScheduledAtBetween(
-                            user.getId(),
-                            NotificationType.MEAL_REMINDER,
-                            LocalDate.now(clock).atStartOfDay(),
-                            LocalDate.now(clock).atTime(23, 59, 59)
-                    );
-            if (alreadyRemindedToday) return;
+        LocalDate today = LocalDate.now(clock);
+        LocalDate tomorrow = today.plusDays(1);
+        if (!bookingPolicy.isWorkingDay(tomorrow)) return 0;
 
-            notificationService.createAndSendImmediately(
-                    user.getId(),
-                    "Meal booking reminder",
-                    "Please book your meal for " + tomorrow + " before 10 PM",
-                    NotificationType.MEAL_REMINDER
+        return chunkedJobRunner.run(JOB + ":" + tomorrow, (fromUserId, toUserId) -> {
+            List<Long> userIds = userRepository.findUnbookedUnnotifiedIds(
+                    fromUserId,
+                    toUserId,
+                    Role.USER,
+                    tomorrow,
+                    NotificationType.MEAL_REMINDER,
+                    today.atStartOfDay(),
+                    today.atTime(23, 59, 59)
             );
+
+            for (Long userId : userIds) {
+                notificationService.createAndSendImmediately(
+                        userId,
+                        "Meal booking reminder",
+                        "Please book your meal for " + tomorrow + " before " + bookingPolicy.getCutoffLabel(),
+                        NotificationType.MEAL_REMINDER
+                );
+            }
+            return userIds.size();
         });
     }
 }
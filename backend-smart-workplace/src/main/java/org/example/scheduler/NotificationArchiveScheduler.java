@@ -0,0 +1,38 @@
+package org.example.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.service.NotificationArchiveService;
+import org.example.service.SchedulerLockService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "spring.task.scheduling", name = "enabled", havingValue = "true")
+public class NotificationArchiveScheduler {
+
+    private final NotificationArchiveService notificationArchiveService;
+    private final SchedulerMetrics schedulerMetrics;
+    private final SchedulerLockService schedulerLockService;
+
+    private static final String JOB = "notification_archive";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    @Scheduled(cron = "0 30 2 * * *", zone = "Asia/Kolkata")
+    public void archiveNotifications() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, this::archive));
+    }
+
+    private int archive() {
+        int archived = notificationArchiveService.archiveExpired();
+        log.info("Archived {} notifications", archived);
+        return archived;
+    }
+}
@@ -1,21 +1,31 @@
 package org.example.scheduler;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.NotificationResponseDTO;
 import org.example.entity.Notification;
 import org.example.repository.NotificationRepository;
+import org.example.service.NotificationMetrics;
+import org.example.service.NotificationStreamHub;
 import org.example.service.PushNotificationService;
+import org.example.service.SchedulerLockService;
+import org.example.service.UnreadCountCache;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 @ConditionalOnProperty(
         prefix = "spring.task.scheduling",
         name = "enabled",
@@ -26,20 +36,41 @@ public class NotificationSenderScheduler {
     private final NotificationRepository notificationRepository;
     private final PushNotificationService pushNotificationService;
     private final Clock clock;
-
+    private final MeterRegistry meterRegistry;
+    private final SchedulerMetrics schedulerMetrics;
+    private final NotificationMetrics notificationMetrics;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationStreamHub notificationStreamHub;
+    private final UnreadCountCache unreadCountCache;
+
+    private static final String JOB = "notification_sender";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(5);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofSeconds(30);
+
+    /**
+     * The sweep commits before the lock is released, so the next holder never
+     * sees notifications this run has already sent as pending.
+     */
     @Scheduled(fixedDelay = 60_000)
-    @Transactional
     public void sendPendingNotifications() {
+        schedulerLockService.runLocked(JOB, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                () -> schedulerMetrics.record(JOB, () -> transactionTemplate.execute(status -> sendPending())));
+    }
+
+    private int sendPending() {
 
         LocalDateTime now = LocalDateTime.now(clock);
 
         List<Notification> pending =
                 notificationRepository.findBySentFalseAndScheduledAtBefore(now);
 
-        if (pending.isEmpty()) return;
+        if (pending.isEmpty()) return 0;
 
         for (Notification notification : pending) {
 
+            Timer.Sample dispatchSample = Timer.start(meterRegistry);
+            String outcome = "sent";
             try {
                 switch (notification.getType()) {
 
@@ -82,10 +113,8 @@ public class NotificationSenderScheduler {
                             );
 
                     default -> {
-                        System.out.println(
-                                "[WARN] Unsupported notification type: "
-                                        + notification.getType()
-                        );
+                        log.warn("Unsupported notification type: {}", notification.getType());
+                        outcome = "unsupported";
                         continue;
                     }
                 }
@@ -93,13 +122,20 @@ public class NotificationSenderScheduler {
                 notification.setSent(true);
                 notification.setSentAt(LocalDateTime.now(clock));
                 notificationRepository.save(notification);
+                notificationMetrics.recordLag(notification);
+                unreadCountCache.increment(notification.getUserId());
+                notificationStreamHub.publish(notification.getUserId(), NotificationResponseDTO.from(notification));
 
             } catch (Exception ex) {
-                System.out.println(
-                        "[ERROR] Notification send failed for id "
-                                + notification.getId()
-                );
+                outcome = "failed";
+                log.error("Notification send failed for id {}", notification.getId(), ex);
+            } finally {
+                dispatchSample.stop(Timer.builder("notification.dispatch")
+                        .tag("type", notification.getType().name())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
             }
         }
+        return pending.size();
     }
 }
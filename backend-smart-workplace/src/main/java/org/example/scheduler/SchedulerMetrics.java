@@ -0,0 +1,49 @@
+package org.example.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Run duration (scheduler.run), rows processed (scheduler.rows) and failed
+ * runs (scheduler.failures) per job.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Times {@code run}, which returns the number of rows it processed.
+     */
+    public void record(String job, IntSupplier run) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int rowsProcessed = 0;
+        try {
+            rowsProcessed = run.getAsInt();
+        } finally {
+            sample.stop(Timer.builder("scheduler.run")
+                    .tag("job", job)
+                    .register(meterRegistry));
+            Counter.builder("scheduler.rows")
+                    .tag("job", job)
+                    .register(meterRegistry)
+                    .increment(rowsProcessed);
+        }
+    }
+
+    /**
+     * Counts a run whose work failed even though {@link #record} completed.
+     */
+    public void recordFailure(String job) {
+        Counter.builder("scheduler.failures")
+                .tag("job", job)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -2,6 +2,7 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.config.EntityCacheConfig;
 import org.example.entity.Role;
 import org.example.entity.User;
 import org.example.repository.UserRepository;
@@ -11,6 +12,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -21,6 +23,8 @@ import java.util.Optional;
 public class AzureOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final EntityCacheConfig entityCacheConfig;
+    private final Clock clock;
 
     public User getOrCreateAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -39,17 +43,26 @@ public class AzureOAuth2UserService {
 
         if (existingUser.isPresent()) {
             User user = existingUser.get();
-            user.setLastLoginAt(LocalDateTime.now());
-            log.info("Updated last login for existing user: {}", user.getEmail());
-            return userRepository.save(user);
+            // Only real changes are written; an unchanged user stays in the
+            // second-level cache and costs no SQL on the next request.
+            if (name != null && !name.equals(user.getName())) {
+                user.setName(name);
+            }
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (user.getLastLoginAt() == null
+                    || !user.getLastLoginAt().plus(entityCacheConfig.getLastLoginWriteInterval()).isAfter(now)) {
+                user.setLastLoginAt(now);
+                log.info("Updated last login for existing user: {}", user.getEmail());
+            }
+            return user;
         } else {
             User newUser = User.builder()
                     .externalId(externalId)
                     .email(email)
                     .name(name)
                     .role(Role.USER)
-                    .createdAt(LocalDateTime.now())
-                    .lastLoginAt(LocalDateTime.now())
+                    .createdAt(LocalDateTime.now(clock))
+                    .lastLoginAt(LocalDateTime.now(clock))
                     .build();
 
             User savedUser = userRepository.save(newUser);
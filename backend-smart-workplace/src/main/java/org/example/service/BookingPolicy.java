@@ -0,0 +1,133 @@
+package org.example.service;
+
+import org.example.config.MealBookingConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Booking rules compiled once from {@link MealBookingConfig}.
+ * All checks compare primitives, so they are safe to call on every request.
+ * Working days (weekends and office holidays excluded) are indexed from the
+ * start of last year to the end of the year after next.
+ */
+@Component
+public class BookingPolicy {
+
+    private final long cutoffNanoOfDay;
+    private final long lunchStartNanoOfDay;
+    private final long lunchEndNanoOfDay;
+    private final boolean[] weekendDays = new boolean[8];
+    private final String cutoffLabel;
+    private final String weekendLabel;
+    private final WorkingDayCalendar calendar;
+
+    public BookingPolicy(MealBookingConfig config, Clock clock) {
+        LocalTime cutoff = config.getCutoffTime();
+        this.cutoffNanoOfDay = cutoff.toNanoOfDay();
+        this.lunchStartNanoOfDay = config.getLunch().getStartTime().toNanoOfDay();
+        this.lunchEndNanoOfDay = config.getLunch().getEndTime().toNanoOfDay();
+        for (DayOfWeek day : config.getWeekendDays()) {
+            weekendDays[day.getValue()] = true;
+        }
+        this.cutoffLabel = DateTimeFormatter
+                .ofPattern(cutoff.getMinute() == 0 ? "h a" : "h:mm a", Locale.ENGLISH)
+                .format(cutoff);
+        this.weekendLabel = weekendLabel(weekendDays);
+
+        int year = LocalDate.now(clock).getYear();
+        this.calendar = new WorkingDayCalendar(
+                weekendDays,
+                new HashSet<>(config.getHolidays()),
+                LocalDate.of(year - 1, 1, 1),
+                LocalDate.of(year + 2, 12, 31)
+        );
+    }
+
+    public boolean isWeekend(LocalDate date) {
+        return weekendDays[date.getDayOfWeek().getValue()];
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return calendar.isHoliday(date);
+    }
+
+    /**
+     * Not a weekend and not an office holiday, i.e. the kitchen is open.
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        return calendar.isWorkingDay(date);
+    }
+
+    public List<LocalDate> workingDaysBetween(LocalDate startDate, LocalDate endDate) {
+        return calendar.workingDaysBetween(startDate, endDate);
+    }
+
+    public List<LocalDate> nextWorkingDays(LocalDate from, int count) {
+        return calendar.nextWorkingDays(from, count);
+    }
+
+    public LocalDate workingDaysBefore(LocalDate date, int count) {
+        return calendar.workingDaysBefore(date, count);
+    }
+
+    public boolean isAfterCutoff(LocalTime now) {
+        return now.toNanoOfDay() > cutoffNanoOfDay;
+    }
+
+    /**
+     * Tomorrow's bookings are frozen once today's cutoff has passed.
+     */
+    public boolean isClosedForChanges(LocalDate date, LocalDate today, LocalTime now) {
+        return date.toEpochDay() == today.toEpochDay() + 1 && isAfterCutoff(now);
+    }
+
+    public boolean isWithinLunchWindow(LocalTime now) {
+        long nanoOfDay = now.toNanoOfDay();
+        return nanoOfDay >= lunchStartNanoOfDay && nanoOfDay <= lunchEndNanoOfDay;
+    }
+
+    public boolean isBeforeLunchWindow(LocalTime now) {
+        return now.toNanoOfDay() < lunchStartNanoOfDay;
+    }
+
+    public boolean isAfterLunchWindow(LocalTime now) {
+        return now.toNanoOfDay() > lunchEndNanoOfDay;
+    }
+
+    /**
+     * Human readable cutoff, e.g. "10 PM", used in user facing messages.
+     */
+    public String getCutoffLabel() {
+        return cutoffLabel;
+    }
+
+    /**
+     * Configured weekend days in week order, e.g. "Saturday and Sunday".
+     */
+    public String getWeekendLabel() {
+        return weekendLabel;
+    }
+
+    private static String weekendLabel(boolean[] weekendDays) {
+        List<String> names = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (weekendDays[day.getValue()]) {
+                names.add(day.getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+            }
+        }
+        if (names.size() < 2) {
+            return String.join("", names);
+        }
+        return String.join(", ", names.subList(0, names.size() - 1)) + " and " + names.get(names.size() - 1);
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.service;
+
+import org.example.dto.BookingSummaryDTO;
+import org.example.dto.BookingSummaryRowDTO;
+import org.example.entity.BookingStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Builds the summary in one pass over the rows: every row is counted by status
+ * and written straight to a temporary CSV file, so neither the rows nor the
+ * attachment are kept in memory. The email bodies only carry the aggregated
+ * counts.
+ */
+class BookingSummaryRenderer {
+
+    static final String CSV_HEADER = "Name,Email,Booked At,Status";
+
+    private final LocalDate date;
+    private final Map<BookingStatus, Integer> statusCounts = new EnumMap<>(BookingStatus.class);
+    private final Path csvFile;
+    private final Writer csv;
+
+    BookingSummaryRenderer(LocalDate date) {
+        this.date = date;
+        try {
+            this.csvFile = Files.createTempFile("meal-bookings-" + date + "-", ".csv");
+            this.csv = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writeLine(CSV_HEADER);
+    }
+
+    void accept(BookingSummaryRowDTO row) {
+        statusCounts.merge(row.getStatus(), 1, Integer::sum);
+        try {
+            writeCsvField(row.getName());
+            csv.write(',');
+            writeCsvField(row.getEmail());
+            csv.write(',');
+            csv.write(row.getBookedAt().toString());
+            csv.write(',');
+            csv.write(row.getStatus().name());
+            csv.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    BookingSummaryDTO finish() {
+        try {
+            csv.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int booked = statusCounts.getOrDefault(BookingStatus.BOOKED, 0);
+        int total = statusCounts.values().stream().mapToInt(Integer::intValue).sum();
+
+        StringBuilder html = new StringBuilder(512);
+        html.append("<html><body style='font-family:Arial;'>")
+                .append("<h2>🍽️ Meal Booking Summary</h2>")
+                .append("<p><strong>Date:</strong> ").append(date).append("</p>")
+                .append("<p><strong>Total Bookings:</strong> ").append(booked).append("</p>");
+        if (booked == 0) {
+            html.append("<p><em>No meals booked for this date.</em></p>");
+        }
+        html.append("<table border='1' cellpadding='8' cellspacing='0'>")
+                .append("<tr><th>Status</th><th>Count</th></tr>");
+        for (Map.Entry<BookingStatus, Integer> entry : statusCounts.entrySet()) {
+            html.append("<tr><td>").append(entry.getKey()).append("</td><td>")
+                    .append(entry.getValue()).append("</td></tr>");
+        }
+        html.append("</table>");
+        if (total > 0) {
+            html.append("<p>The full list of ").append(total).append(" bookings is attached as CSV.</p>");
+        }
+        html.append("<p style='font-size:12px;color:#666'>Automated email from Smart Workplace</p>")
+                .append("</body></html>");
+
+        StringBuilder text = new StringBuilder(256);
+        text.append("MEAL BOOKING SUMMARY\n")
+                .append("Date: ").append(date)
+                .append("\nTotal Bookings: ").append(booked)
+                .append("\n\n");
+        if (booked == 0) {
+            text.append("No meals booked for this date.\n");
+        }
+        for (Map.Entry<BookingStatus, Integer> entry : statusCounts.entrySet()) {
+            text.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+        if (total > 0) {
+            text.append("\nThe full list of ").append(total).append(" bookings is attached as CSV.\n");
+        }
+
+        return new BookingSummaryDTO(
+                date,
+                "Meal Booking Summary for " + date,
+                html.toString(),
+                text.toString(),
+                statusCounts,
+                "meal-bookings-" + date + ".csv",
+                csvFile
+        );
+    }
+
+    /**
+     * Removes the CSV file when the summary is abandoned before {@link #finish()}.
+     */
+    void discard() {
+        try {
+            csv.close();
+            Files.deleteIfExists(csvFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(String line) {
+        try {
+            csv.write(line);
+            csv.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * RFC 4180 quoting. Values starting with a formula character, tab or
+     * carriage return are prefixed with a quote so spreadsheets do not
+     * evaluate them.
+     */
+    private void writeCsvField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean formula = "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            csv.write(value);
+            return;
+        }
+        csv.write('"');
+        if (formula) {
+            csv.write('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.write('"');
+            }
+            csv.write(c);
+        }
+        csv.write('"');
+    }
+}
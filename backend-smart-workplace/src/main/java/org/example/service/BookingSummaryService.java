@@ -0,0 +1,35 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.BookingSummaryDTO;
+import org.example.dto.BookingSummaryRowDTO;
+import org.example.repository.MealBookingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class BookingSummaryService {
+
+    private final MealBookingRepository mealBookingRepository;
+
+    /**
+     * Streams the day's bookings through a single renderer, so memory stays at
+     * the size of the rendered bodies rather than the loaded entities. The CSV
+     * attachment is a temporary file the caller deletes once it is sent.
+     */
+    @Transactional(readOnly = true)
+    public BookingSummaryDTO buildSummary(LocalDate bookingDate) {
+        BookingSummaryRenderer renderer = new BookingSummaryRenderer(bookingDate);
+        try (Stream<BookingSummaryRowDTO> rows = mealBookingRepository.streamSummaryRowsByBookingDate(bookingDate)) {
+            rows.forEach(renderer::accept);
+            return renderer.finish();
+        } catch (RuntimeException e) {
+            renderer.discard();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.ChunkedJobConfig;
+import org.example.entity.JobChunk;
+import org.example.entity.JobChunkStatus;
+import org.example.repository.JobChunkRepository;
+import org.example.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a user-wide job in user-ID chunks.
+ * <p>
+ * The first call for a run key plans the chunks: keyset pages of user IDs become
+ * contiguous ID ranges, the last one open-ended so users created later are still
+ * covered. Workers (virtual threads here, but any node can join through the claim
+ * table) then claim chunks with a lease and process each in its own transaction,
+ * which also marks the chunk DONE. Calling {@link #run} again for the same key only
+ * picks up chunks that are still pending or whose claim expired, so a restart
+ * resumes where it stopped without repeating committed chunks.
+ */
+@Service
+@Slf4j
+public class ChunkedJobRunner {
+
+    /**
+     * Work for one chunk, called inside the chunk's transaction. Returns rows processed.
+     */
+    @FunctionalInterface
+    public interface ChunkProcessor {
+        int process(long fromUserId, long toUserId);
+    }
+
+    private final JobChunkRepository jobChunkRepository;
+    private final UserRepository userRepository;
+    private final ChunkedJobConfig config;
+    private final Clock clock;
+    private final String owner;
+    private final TransactionTemplate chunkTransaction;
+    private final TransactionTemplate requiresNew;
+
+    @Autowired
+    public ChunkedJobRunner(
+            JobChunkRepository jobChunkRepository,
+            UserRepository userRepository,
+            ChunkedJobConfig config,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        this(jobChunkRepository, userRepository, config, transactionManager, clock, NodeIds.newOwnerId());
+    }
+
+    ChunkedJobRunner(
+            JobChunkRepository jobChunkRepository,
+            UserRepository userRepository,
+            ChunkedJobConfig config,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            String owner
+    ) {
+        this.jobChunkRepository = jobChunkRepository;
+        this.userRepository = userRepository;
+        this.config = config;
+        this.clock = clock;
+        this.owner = owner;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Plans the run if needed, then processes every claimable chunk with the
+     * configured number of workers. Returns the rows processed by this call.
+     */
+    public int run(String runKey, ChunkProcessor processor) {
+        planIfAbsent(runKey);
+
+        int workers = Math.max(1, config.getWorkers());
+        int processed = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> workLoop(runKey, processor)));
+            }
+            for (Future<Integer> result : results) {
+                processed += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Chunked run " + runKey + " interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Chunked run " + runKey + " failed", e.getCause());
+        }
+        return processed;
+    }
+
+    private void planIfAbsent(String runKey) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (jobChunkRepository.existsByRunKey(runKey)) {
+                    return;
+                }
+                int chunkSize = Math.max(1, config.getChunkSize());
+                Instant now = clock.instant();
+                List<JobChunk> chunks = new ArrayList<>();
+                long afterId = Long.MIN_VALUE;
+                while (true) {
+                    List<Long> ids = userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+                    long lastId = ids.get(ids.size() - 1);
+                    chunks.add(JobChunk.builder()
+                            .runKey(runKey)
+                            .fromUserId(chunks.isEmpty() ? Long.MIN_VALUE : afterId + 1)
+                            .toUserId(lastId)
+                            .status(JobChunkStatus.PENDING)
+                            .updatedAt(now)
+                            .build());
+                    afterId = lastId;
+                    if (ids.size() < chunkSize) {
+                        break;
+                    }
+                }
+                if (!chunks.isEmpty()) {
+                    chunks.get(chunks.size() - 1).setToUserId(Long.MAX_VALUE);
+                }
+                jobChunkRepository.saveAll(chunks);
+                log.info("Planned {} chunks for {}", chunks.size(), runKey);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Chunks for {} were planned by another node", runKey);
+        }
+    }
+
+    private int workLoop(String runKey, ChunkProcessor processor) {
+        int processed = 0;
+        JobChunk chunk;
+        while ((chunk = claimNext(runKey)) != null) {
+            processed += processChunk(chunk, processor);
+        }
+        return processed;
+    }
+
+    private JobChunk claimNext(String runKey) {
+        return requiresNew.execute(status -> {
+            Instant now = clock.instant();
+            List<Long> candidates = jobChunkRepository.findClaimableIds(
+                    runKey, now, PageRequest.of(0, Math.max(1, config.getWorkers()) * 2));
+            for (Long id : candidates) {
+                if (jobChunkRepository.claim(id, owner, now, now.plus(config.getClaimLease())) == 1) {
+                    return jobChunkRepository.findById(id).orElse(null);
+                }
+            }
+            return null;
+        });
+    }
+
+    private int processChunk(JobChunk chunk, ChunkProcessor processor) {
+        try {
+            Integer rows = chunkTransaction.execute(status -> {
+                int processed = processor.process(chunk.getFromUserId(), chunk.getToUserId());
+                if (jobChunkRepository.complete(chunk.getId(), owner, processed, clock.instant()) != 1) {
+                    throw new IllegalStateException("Lost claim on chunk " + chunk.getId());
+                }
+                return processed;
+            });
+            return rows == null ? 0 : rows;
+        } catch (RuntimeException e) {
+            log.warn("Chunk {} [{}..{}] of {} failed: {}", chunk.getId(), chunk.getFromUserId(),
+                    chunk.getToUserId(), chunk.getRunKey(), e.getMessage());
+            requiresNew.executeWithoutResult(status ->
+                    jobChunkRepository.releaseFailed(chunk.getId(), owner, config.getMaxAttempts(), clock.instant()));
+            return 0;
+        }
+    }
+}
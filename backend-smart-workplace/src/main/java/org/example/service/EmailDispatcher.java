@@ -0,0 +1,137 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.AwsSesConfig;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.ses.SesAsyncClient;
+import software.amazon.awssdk.services.ses.model.SendRawEmailRequest;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends emails through the async SES client without blocking the caller on the network.
+ * <ul>
+ *     <li>a token bucket keeps sends at the account's SES rate,</li>
+ *     <li>a semaphore bounds in-flight requests; callers wait only when it is full,</li>
+ *     <li>throttled sends, SES 5xx responses, connection errors and timeouts are retried
+ *     with jittered exponential backoff; the SDK's own retries are off.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+@Profile("aws-email")
+public class EmailDispatcher {
+
+    private static final long BASE_BACKOFF_MILLIS = 200;
+    private static final long MAX_BACKOFF_MILLIS = 10_000;
+
+    private final SesAsyncClient sesAsyncClient;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore inFlight;
+    private final int maxAttempts;
+    private final ScheduledExecutorService delayScheduler;
+
+    public EmailDispatcher(@Lazy SesAsyncClient sesAsyncClient, AwsSesConfig sesConfig) {
+        this.sesAsyncClient = sesAsyncClient;
+        this.rateLimiter = new TokenBucketRateLimiter(sesConfig.getMaxSendRate());
+        this.inFlight = new Semaphore(sesConfig.getMaxInFlight());
+        this.maxAttempts = Math.max(1, sesConfig.getMaxAttempts());
+        this.delayScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ses-dispatch-delay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the email and completes with the SES message id.
+     */
+    public CompletableFuture<String> sendRawEmail(SendRawEmailRequest request) {
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.whenComplete((messageId, error) -> inFlight.release());
+        scheduleAttempt(request, 1, result);
+        return result;
+    }
+
+    private void scheduleAttempt(SendRawEmailRequest request, int attempt, CompletableFuture<String> result) {
+        long delayNanos = rateLimiter.reserve();
+        if (delayNanos == 0) {
+            attempt(request, attempt, result);
+        } else {
+            delayScheduler.schedule(() -> attempt(request, attempt, result), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void attempt(SendRawEmailRequest request, int attempt, CompletableFuture<String> result) {
+        CompletableFuture<String> send;
+        try {
+            send = sesAsyncClient.sendRawEmail(request).thenApply(response -> response.messageId());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        send.whenComplete((messageId, error) -> {
+            if (error == null) {
+                result.complete(messageId);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (isRetryable(cause) && attempt < maxAttempts) {
+                long backoff = backoffMillis(attempt);
+                log.warn("SES send failed (attempt {}/{}), retrying in {} ms: {}",
+                        attempt, maxAttempts, backoff, cause.toString());
+                delayScheduler.schedule(() -> scheduleAttempt(request, attempt + 1, result), backoff, TimeUnit.MILLISECONDS);
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    /**
+     * The cases the SDK's default policy retries: throttling, 5xx responses,
+     * and client-side I/O failures such as connection resets and timeouts.
+     */
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof SdkServiceException serviceException) {
+            return serviceException.isThrottlingException() || serviceException.statusCode() >= 500;
+        }
+        if (error instanceof ApiCallAttemptTimeoutException) {
+            return true;
+        }
+        if (error instanceof SdkClientException) {
+            for (Throwable cause = error.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt - 1, 16));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        delayScheduler.shutdownNow();
+    }
+}
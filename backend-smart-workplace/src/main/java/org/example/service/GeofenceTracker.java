@@ -0,0 +1,152 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.config.OfficeLocationConfig;
+import org.example.event.GeofenceTransition;
+import org.example.event.GeofenceTransitionEvent;
+import org.example.utils.GeoUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory geofence state per user (OUTSIDE or INSIDE, with the time the user
+ * went in). Each ping is compared with the previous state and only a change
+ * publishes a {@link GeofenceTransitionEvent}, so steady pings cost no database
+ * access.
+ * <p>
+ * Fixes are filtered before they reach the state machine:
+ * <ul>
+ *     <li>fixes less accurate than {@code office.max-accuracy-meters} are dropped,</li>
+ *     <li>entering needs the whole accuracy circle inside {@code office.radius-meters},
+ *     leaving needs it beyond the larger {@code office.exit-radius-meters},</li>
+ *     <li>an entry is confirmed only after {@code office.min-dwell} inside,</li>
+ *     <li>fixes that repeat the last stored position are reported as duplicates
+ *     so the caller can skip storing them; they still count towards the dwell.</li>
+ * </ul>
+ * State does not carry over to a new day: the first fix of the day starts
+ * fresh. State is per instance; a user whose pings land on several instances
+ * may produce repeated transitions, which listeners must tolerate.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeofenceTracker {
+
+    public enum Zone {
+        OUTSIDE,
+        INSIDE
+    }
+
+    public enum FixOutcome {
+        INACCURATE,
+        DUPLICATE,
+        ACCEPTED
+    }
+
+    public record Result(FixOutcome outcome, Zone zone) {
+    }
+
+    /**
+     * @param since        when the current zone was entered
+     * @param pendingSince first inside fix of an entry not yet confirmed, or null
+     * @param stored       last fix reported as ACCEPTED
+     */
+    private record State(Zone zone, LocalDateTime since, LocalDateTime pendingSince,
+                         double latitude, double longitude, LocalDateTime stored) {
+    }
+
+    private final OfficeLocationConfig officeLocationConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * Applies a location fix and returns whether it should be stored, along with
+     * the user's zone after it. {@code accuracy} may be null when the device did
+     * not report one.
+     */
+    public Result track(Long userId, double latitude, double longitude, Double accuracy, LocalDateTime at) {
+        double uncertainty = accuracy == null ? 0 : accuracy;
+        if (uncertainty > officeLocationConfig.getMaxAccuracyMeters()) {
+            return new Result(FixOutcome.INACCURATE, currentZone(userId, at));
+        }
+
+        double distance = GeoUtils.distanceInMeters(
+                latitude, longitude,
+                officeLocationConfig.getLatitude(), officeLocationConfig.getLongitude()
+        );
+        boolean clearlyInside = distance + uncertainty <= officeLocationConfig.getRadiusMeters();
+        boolean clearlyOutside = distance - uncertainty > officeLocationConfig.getExitRadiusMeters();
+
+        Result[] result = new Result[1];
+        GeofenceTransitionEvent[] transition = new GeofenceTransitionEvent[1];
+
+        states.compute(userId, (id, previous) -> {
+            if (previous == null || !previous.since().toLocalDate().equals(at.toLocalDate())) {
+                previous = new State(Zone.OUTSIDE, at.toLocalDate().atStartOfDay(), null, 0, 0, null);
+            }
+
+            boolean duplicate = previous.stored() != null
+                    && Duration.between(previous.stored(), at).compareTo(officeLocationConfig.getDuplicateWindow()) < 0
+                    && GeoUtils.distanceInMeters(latitude, longitude, previous.latitude(), previous.longitude())
+                    < officeLocationConfig.getDuplicateDistanceMeters();
+
+            State next = previous.zone() == Zone.INSIDE
+                    ? whileInside(id, previous, clearlyOutside, at, transition)
+                    : whileOutside(id, previous, clearlyInside, clearlyOutside, at, transition);
+
+            if (duplicate) {
+                result[0] = new Result(FixOutcome.DUPLICATE, next.zone());
+                return next;
+            }
+            result[0] = new Result(FixOutcome.ACCEPTED, next.zone());
+            return new State(next.zone(), next.since(), next.pendingSince(), latitude, longitude, at);
+        });
+
+        if (transition[0] != null) {
+            eventPublisher.publishEvent(transition[0]);
+        }
+        return result[0];
+    }
+
+    public Zone currentZone(Long userId) {
+        State state = states.get(userId);
+        return state == null ? Zone.OUTSIDE : state.zone();
+    }
+
+    private Zone currentZone(Long userId, LocalDateTime at) {
+        State state = states.get(userId);
+        return state == null || !state.since().toLocalDate().equals(at.toLocalDate()) ? Zone.OUTSIDE : state.zone();
+    }
+
+    private State whileInside(Long userId, State state, boolean clearlyOutside, LocalDateTime at,
+                              GeofenceTransitionEvent[] transition) {
+        if (!clearlyOutside) {
+            return state;
+        }
+        transition[0] = new GeofenceTransitionEvent(
+                userId, GeofenceTransition.EXIT, at, Duration.between(state.since(), at));
+        return new State(Zone.OUTSIDE, at, null, state.latitude(), state.longitude(), state.stored());
+    }
+
+    private State whileOutside(Long userId, State state, boolean clearlyInside, boolean clearlyOutside,
+                               LocalDateTime at, GeofenceTransitionEvent[] transition) {
+        if (clearlyOutside) {
+            return new State(Zone.OUTSIDE, state.since(), null, state.latitude(), state.longitude(), state.stored());
+        }
+        if (!clearlyInside) {
+            // Between the radii or too uncertain: neither starts nor cancels a pending entry.
+            return state;
+        }
+        LocalDateTime pendingSince = state.pendingSince() == null ? at : state.pendingSince();
+        if (Duration.between(pendingSince, at).compareTo(officeLocationConfig.getMinDwell()) < 0) {
+            return new State(Zone.OUTSIDE, state.since(), pendingSince, state.latitude(), state.longitude(), state.stored());
+        }
+        transition[0] = new GeofenceTransitionEvent(userId, GeofenceTransition.ENTER, pendingSince, Duration.ZERO);
+        return new State(Zone.INSIDE, pendingSince, null, state.latitude(), state.longitude(), state.stored());
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.LocationHistoryConfig;
+import org.example.dto.LocationFixDTO;
+import org.example.repository.LocationFixRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the full history of location fixes for attendance audits.
+ * <p>
+ * Fixes are buffered and written in JDBC batches on a background flusher, so a
+ * location update costs one queue offer instead of an insert. When the buffer
+ * is full the caller writes its own fix, which slows updates down rather than
+ * losing history. A batch whose insert fails is kept and written first on the
+ * next flush.
+ * <p>
+ * The table and partitions are created on first use, off the startup path, and
+ * then kept up by {@code LocationHistoryMaintenanceScheduler}.
+ */
+@Service
+@Slf4j
+public class LocationHistoryService {
+
+    private final LocationFixRepository locationFixRepository;
+    private final LocationHistoryConfig config;
+    private final Clock clock;
+    private final BlockingQueue<LocationFixDTO> buffer;
+    private final ScheduledExecutorService flusher;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Guarded by flushLock: a batch that failed to insert, retried before the buffer.
+    private final List<LocationFixDTO> failedBatch = new ArrayList<>();
+    private volatile boolean schemaReady;
+
+    public LocationHistoryService(
+            LocationFixRepository locationFixRepository,
+            LocationHistoryConfig config,
+            Clock clock
+    ) {
+        this.locationFixRepository = locationFixRepository;
+        this.config = config;
+        this.clock = clock;
+        this.buffer = new ArrayBlockingQueue<>(config.getBufferCapacity());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "location-history-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void init() {
+        long intervalMillis = config.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void record(LocationFixDTO fix) {
+        if (!buffer.offer(fix)) {
+            ensureSchema();
+            locationFixRepository.insertBatch(List.of(fix));
+        }
+    }
+
+    /**
+     * Writes everything buffered so far; returns the number of fixes written.
+     */
+    public int flush() {
+        // A ReentrantLock keeps virtual threads (findHistory, full-buffer writers) unpinned.
+        flushLock.lock();
+        try {
+            ensureSchema();
+            int written = 0;
+            if (!failedBatch.isEmpty()) {
+                locationFixRepository.insertBatch(failedBatch);
+                written += failedBatch.size();
+                failedBatch.clear();
+            }
+            List<LocationFixDTO> batch = new ArrayList<>(config.getBatchSize());
+            while (buffer.drainTo(batch, config.getBatchSize()) > 0) {
+                try {
+                    locationFixRepository.insertBatch(batch);
+                } catch (RuntimeException e) {
+                    failedBatch.addAll(batch);
+                    throw e;
+                }
+                written += batch.size();
+                batch.clear();
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Fixes for one user on one day, oldest first.
+     */
+    public List<LocationFixDTO> findHistory(Long userId, LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = date.plusDays(1).atStartOfDay();
+        Predicate<LocationFixDTO> requested = fix -> userId.equals(fix.getUserId())
+                && !fix.getRecordedAt().isBefore(from) && fix.getRecordedAt().isBefore(to);
+
+        // While the lock is held nothing moves from the buffer to the table, so
+        // every fix is read from exactly one of them.
+        flushLock.lock();
+        try {
+            ensureSchema();
+            List<LocationFixDTO> history = new ArrayList<>(locationFixRepository.findByUserIdBetween(userId, from, to));
+            failedBatch.stream().filter(requested).forEach(history::add);
+            buffer.stream().filter(requested).forEach(history::add);
+            history.sort(Comparator.comparing(LocationFixDTO::getRecordedAt));
+            return history;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Creates the table if needed and the partitions for this month and the
+     * configured months ahead. Writes can go ahead once the table exists, since
+     * the default partition takes rows for any month whose partition could not
+     * be created; such failures are logged and retried on the next run.
+     */
+    public void ensurePartitions() {
+        locationFixRepository.createSchema();
+        schemaReady = true;
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= config.getPartitionsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                locationFixRepository.createPartition(month);
+            } catch (RuntimeException e) {
+                log.error("Failed to create location history partition for {}", month, e);
+            }
+        }
+    }
+
+    /**
+     * Drops history older than the retention window; returns the partitions
+     * (or rows, on unpartitioned databases) removed.
+     */
+    public int purgeExpired() {
+        YearMonth cutoff = YearMonth.now(clock).minusMonths(config.getRetentionMonths());
+        return locationFixRepository.purgeBefore(cutoff);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    private void ensureSchema() {
+        if (schemaReady) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (!schemaReady) {
+                ensurePartitions();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            flushLock.lock();
+            try {
+                log.error("Failed to flush location history ({} fixes still buffered)",
+                        failedBatch.size() + buffer.size(), e);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.BookingStatus;
+import org.example.entity.MealBooking;
+import org.example.event.GeofenceTransition;
+import org.example.event.GeofenceTransitionEvent;
+import org.example.repository.MealBookingRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Keeps {@code MealBooking.availableForLunch} in step with geofence transitions:
+ * entering the office before the lunch window closes marks the user available,
+ * leaving before it opens takes that back.
+ * <p>
+ * The booking is read and written in one read-write transaction, so the read
+ * comes from the primary; a lagging replica could otherwise skip the update
+ * or have a stale copy saved back over newer state.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LunchAttendanceListener {
+
+    private final MealBookingRepository mealBookingRepository;
+    private final BookingPolicy bookingPolicy;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener
+    @Transactional
+    public void onGeofenceTransition(GeofenceTransitionEvent event) {
+        if (event.getTransition() == GeofenceTransition.EXIT) {
+            Timer.builder("geofence.dwell")
+                    .register(meterRegistry)
+                    .record(event.getDwell());
+        }
+
+        LocalDate date = event.getOccurredAt().toLocalDate();
+        LocalTime time = event.getOccurredAt().toLocalTime();
+        if (!bookingPolicy.isWorkingDay(date)) {
+            return;
+        }
+
+        boolean available;
+        if (event.getTransition() == GeofenceTransition.ENTER && !bookingPolicy.isAfterLunchWindow(time)) {
+            available = true;
+        } else if (event.getTransition() == GeofenceTransition.EXIT && bookingPolicy.isBeforeLunchWindow(time)) {
+            available = false;
+        } else {
+            return;
+        }
+
+        mealBookingRepository
+                .findByUserIdAndBookingDate(event.getUserId(), date)
+                .filter(booking -> booking.getStatus() == BookingStatus.BOOKED)
+                .filter(booking -> booking.getAvailableForLunch() != available)
+                .ifPresent(booking -> updateAvailability(booking, available));
+    }
+
+    private void updateAvailability(MealBooking booking, boolean available) {
+        booking.setAvailableForLunch(available);
+        mealBookingRepository.save(booking);
+        log.debug("Booking {} availableForLunch={}", booking.getId(), available);
+    }
+}
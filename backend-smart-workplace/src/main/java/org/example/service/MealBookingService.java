@@ -3,6 +3,7 @@ package org.example.service;
 import org.example.dto.CancelMealRequestDTO;
 import org.example.dto.SingleMealBookingResponseDTO;
 import org.example.dto.RangeMealBookingResponseDTO;
+import org.example.dto.RangeMealCancellationResponseDTO;
 import org.example.dto.UpcomingMealsResponseDTO;
 import org.example.entity.User;
 
@@ -16,4 +17,6 @@ public interface MealBookingService {
     UpcomingMealsResponseDTO getUpcomingMeals(User user);
 
     SingleMealBookingResponseDTO cancelMealByUserIdAndDate(User user, CancelMealRequestDTO request);
+
+    RangeMealCancellationResponseDTO cancelRangeMeals(User user, LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
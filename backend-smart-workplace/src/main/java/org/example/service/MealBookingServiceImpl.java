@@ -1,8 +1,11 @@
 package org.example.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.SingleMealBookingResponseDTO;
 import org.example.dto.RangeMealBookingResponseDTO;
+import org.example.dto.RangeMealCancellationResponseDTO;
 import org.example.dto.UpcomingMealsResponseDTO;
 import org.example.dto.CancelMealRequestDTO;
 import org.example.entity.*;
@@ -18,6 +21,8 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,33 +35,47 @@ public class MealBookingServiceImpl implements MealBookingService {
     private final PushNotificationService pushNotificationService;
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
+    private final BookingPolicy bookingPolicy;
     private final Clock clock;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public SingleMealBookingResponseDTO bookSingleMeal(User user, LocalDate date) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SingleMealBookingResponseDTO response = doBookSingleMeal(user, date);
+        sample.stop(bookingTimer("book_single", response.getBookingDate() != null));
+        return response;
+    }
+
+    private SingleMealBookingResponseDTO doBookSingleMeal(User user, LocalDate date) {
         try {
             LocalDate today = LocalDate.now(clock);
             if (date.isBefore(today)) {
                 return SingleMealBookingResponseDTO.failure("Cannot book meals for past dates");
             }
-            if (date.getDayOfWeek().getValue() >= 6) {
-                return SingleMealBookingResponseDTO.failure("Cannot book meals on weekends (Saturday and Sunday)");
+            if (bookingPolicy.isWeekend(date)) {
+                return SingleMealBookingResponseDTO.failure("Cannot book meals on weekends (" + bookingPolicy.getWeekendLabel() + ")");
+            }
+            if (bookingPolicy.isHoliday(date)) {
+                return SingleMealBookingResponseDTO.failure("Cannot book meals on office holidays");
             }
             LocalTime now = LocalTime.now(clock);
-            if (date.equals(today.plusDays(1)) && now.isAfter(LocalTime.of(22, 0))) {
-                return SingleMealBookingResponseDTO.failure("Booking closed for tomorrow after 10 PM");
+            if (bookingPolicy.isClosedForChanges(date, today, now)) {
+                return SingleMealBookingResponseDTO.failure("Booking closed for tomorrow after " + bookingPolicy.getCutoffLabel());
             }
 
-            boolean existingBookedMeal = mealBookingRepository.existsByUserAndBookingDateAndStatus(user, date, BookingStatus.BOOKED);
-            if (existingBookedMeal) {
+            BookingStatus existingStatus = mealBookingRepository.findStatusByUserIdAndBookingDate(user.getId(), date)
+                    .orElse(null);
+            if (existingStatus == BookingStatus.BOOKED) {
                 return SingleMealBookingResponseDTO.failure("Meal already booked for " + date);
             }
-            MealBooking cancelledBooking = mealBookingRepository.findByUserAndBookingDateAndStatus(user, date, BookingStatus.CANCELLED)
-                    .orElse(null);
+            MealBooking cancelledBooking = existingStatus == BookingStatus.CANCELLED
+                    ? mealBookingRepository.findByUserIdAndBookingDate(user.getId(), date).orElse(null)
+                    : null;
 
             if (cancelledBooking != null) {
-                if (date.equals(today.plusDays(1)) && now.isAfter(LocalTime.of(22, 0))) {
-                    return SingleMealBookingResponseDTO.failure("Rebooking closed for tomorrow after 10 PM");
+                if (bookingPolicy.isClosedForChanges(date, today, now)) {
+                    return SingleMealBookingResponseDTO.failure("Rebooking closed for tomorrow after " + bookingPolicy.getCutoffLabel());
                 }
 
                 cancelledBooking.setStatus(BookingStatus.BOOKED);
@@ -106,6 +125,13 @@ public class MealBookingServiceImpl implements MealBookingService {
 
     @Override
     public RangeMealBookingResponseDTO bookRangeMeals(User user, LocalDate startDate, LocalDate endDate) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        RangeMealBookingResponseDTO response = doBookRangeMeals(user, startDate, endDate);
+        sample.stop(bookingTimer("book_range", response.getBookedDates() != null));
+        return response;
+    }
+
+    private RangeMealBookingResponseDTO doBookRangeMeals(User user, LocalDate startDate, LocalDate endDate) {
 
         List<String> bookedDates = new ArrayList<>();
 
@@ -120,27 +146,26 @@ public class MealBookingServiceImpl implements MealBookingService {
                 return RangeMealBookingResponseDTO.failure("End date cannot be before start date");
             }
 
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            // One lookup for the whole range instead of two per day.
+            Map<LocalDate, MealBooking> existingBookings = mealBookingRepository
+                    .findByUserIdAndBookingDateBetween(user.getId(), startDate, endDate).stream()
+                    .collect(Collectors.toMap(MealBooking::getBookingDate, Function.identity()));
 
-                if (date.getDayOfWeek().getValue() >= 6) {
-                    continue;
-                }
-                if (date.equals(today.plusDays(1)) && now.isAfter(LocalTime.of(22, 0))) {
+            for (LocalDate date : bookingPolicy.workingDaysBetween(startDate, endDate)) {
+
+                if (bookingPolicy.isClosedForChanges(date, today, now)) {
                     continue;
                 }
-                boolean existingBookedMeal = mealBookingRepository.existsByUserAndBookingDateAndStatus(user, date, BookingStatus.BOOKED);
-                if (existingBookedMeal) {
+                MealBooking existingBooking = existingBookings.get(date);
+                if (existingBooking != null && existingBooking.getStatus() != BookingStatus.CANCELLED) {
                     continue;
                 }
 
-                MealBooking cancelledBooking = mealBookingRepository.findByUserAndBookingDateAndStatus(user, date, BookingStatus.CANCELLED)
-                        .orElse(null);
-
-                if (cancelledBooking != null) {
-                    cancelledBooking.setStatus(BookingStatus.BOOKED);
-                    cancelledBooking.setBookedAt(LocalDateTime.now(clock));
-                    cancelledBooking.setAvailableForLunch(false);
-                    mealBookingRepository.save(cancelledBooking);
+                if (existingBooking != null) {
+                    existingBooking.setStatus(BookingStatus.BOOKED);
+                    existingBooking.setBookedAt(LocalDateTime.now(clock));
+                    existingBooking.setAvailableForLunch(false);
+                    mealBookingRepository.save(existingBooking);
                     bookedDates.add(date.toString());
                     continue;
                 }
@@ -182,20 +207,29 @@ public class MealBookingServiceImpl implements MealBookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UpcomingMealsResponseDTO getUpcomingMeals(User user) {
-        LocalDate today = LocalDate.now(clock);
-        List<MealBooking> allBookings = mealBookingRepository.findByUserOrderByBookingDateDesc(user);
-
-        List<LocalDate> bookedDates = allBookings.stream()
-                .filter(booking -> booking.getStatus() == BookingStatus.BOOKED && !booking.getBookingDate().isBefore(today))
-                .map(MealBooking::getBookingDate)
-                .collect(Collectors.toList());
-
-        return new UpcomingMealsResponseDTO(bookedDates);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            LocalDate today = LocalDate.now(clock);
+            List<LocalDate> bookedDates = mealBookingRepository.findBookedDatesFrom(user.getId(), today);
+            success = true;
+            return new UpcomingMealsResponseDTO(bookedDates);
+        } finally {
+            sample.stop(bookingTimer("upcoming", success));
+        }
     }
 
     @Override
     public SingleMealBookingResponseDTO cancelMealByUserIdAndDate(User user, CancelMealRequestDTO request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SingleMealBookingResponseDTO response = doCancelMealByUserIdAndDate(user, request);
+        sample.stop(bookingTimer("cancel_single", response.getBookingDate() != null));
+        return response;
+    }
+
+    private SingleMealBookingResponseDTO doCancelMealByUserIdAndDate(User user, CancelMealRequestDTO request) {
         try {
             LocalDate today = LocalDate.now(clock);
             LocalDate bookingDate = request.getBookingDate();
@@ -204,11 +238,11 @@ public class MealBookingServiceImpl implements MealBookingService {
             if (bookingDate.isBefore(today)) {
                 return SingleMealBookingResponseDTO.failure("Cannot cancel meals for past dates");
             }
-            if (bookingDate.equals(today.plusDays(1)) && now.isAfter(LocalTime.of(22, 0))) {
-                return SingleMealBookingResponseDTO.failure("Cancellation closed for tomorrow after 10 PM");
+            if (bookingPolicy.isClosedForChanges(bookingDate, today, now)) {
+                return SingleMealBookingResponseDTO.failure("Cancellation closed for tomorrow after " + bookingPolicy.getCutoffLabel());
             }
 
-            MealBooking booking = mealBookingRepository.findByUserAndBookingDate(user, bookingDate)
+            MealBooking booking = mealBookingRepository.findByUserIdAndBookingDate(user.getId(), bookingDate)
                     .orElseThrow(() -> new RuntimeException("No booking found for user " + user.getId() + " on " + bookingDate));
 
             if (booking.getStatus() != BookingStatus.BOOKED) {
@@ -233,4 +267,65 @@ public class MealBookingServiceImpl implements MealBookingService {
             return SingleMealBookingResponseDTO.failure("Cancellation failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public RangeMealCancellationResponseDTO cancelRangeMeals(User user, LocalDate startDate, LocalDate endDate) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        RangeMealCancellationResponseDTO response = doCancelRangeMeals(user, startDate, endDate);
+        sample.stop(bookingTimer("cancel_range", response.getCancelledCount() != null));
+        return response;
+    }
+
+    private RangeMealCancellationResponseDTO doCancelRangeMeals(User user, LocalDate startDate, LocalDate endDate) {
+        try {
+            LocalDate today = LocalDate.now(clock);
+            LocalDate tomorrow = today.plusDays(1);
+            LocalTime now = LocalTime.now(clock);
+
+            if (startDate.isBefore(today)) {
+                return RangeMealCancellationResponseDTO.failure("Cannot cancel meals for past dates");
+            }
+            if (endDate.isBefore(startDate)) {
+                return RangeMealCancellationResponseDTO.failure("End date cannot be before start date");
+            }
+
+            boolean tomorrowClosed = bookingPolicy.isAfterCutoff(now);
+            if (tomorrowClosed && startDate.equals(tomorrow) && endDate.equals(tomorrow)) {
+                return RangeMealCancellationResponseDTO.failure("Cancellation closed for tomorrow after " + bookingPolicy.getCutoffLabel());
+            }
+            LocalDate excludedDate = tomorrowClosed ? tomorrow : startDate.minusDays(1);
+
+            int cancelled = mealBookingRepository.cancelBookedMealsInRange(user.getId(), startDate, endDate, excludedDate);
+            if (cancelled == 0) {
+                return RangeMealCancellationResponseDTO.failure(
+                        "No booked meals found between " + startDate + " and " + endDate
+                );
+            }
+
+            notificationService.schedule(
+                    user.getId(),
+                    "Meals Cancelled",
+                    "Meals cancelled from " + startDate + " to " + endDate + " (" + cancelled + " bookings)",
+                    NotificationType.CANCELLATION_CONFIRMATION,
+                    LocalDateTime.now(clock)
+            );
+            return RangeMealCancellationResponseDTO.success(
+                    "Meals cancelled successfully from " + startDate + " to " + endDate,
+                    cancelled
+            );
+
+        } catch (Exception e) {
+            return RangeMealCancellationResponseDTO.failure("Range cancellation failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * meal.booking timer, tagged by operation and whether the request was accepted.
+     */
+    private Timer bookingTimer(String operation, boolean success) {
+        return Timer.builder("meal.booking")
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "rejected")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Owner ids for database claims and leases: host name plus a per-bean random suffix.
+ */
+final class NodeIds {
+
+    private NodeIds() {
+    }
+
+    static String newOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown-host";
+        }
+        return host + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.NotificationConfig;
+import org.example.repository.ArchivedNotificationRepository;
+import org.example.repository.NotificationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves old sent notifications into {@code notifications_archive} so the live
+ * table, and the inbox and sender queries on it, stay small.
+ * <p>
+ * Each batch copies and deletes up to {@code notifications.archive-batch-size}
+ * rows in its own short transaction, so locks are held briefly and an
+ * interrupted run loses nothing. A run stops at
+ * {@code notifications.archive-max-run-time}.
+ */
+@Service
+@Slf4j
+public class NotificationArchiveService {
+
+    private final NotificationRepository notificationRepository;
+    private final ArchivedNotificationRepository archivedNotificationRepository;
+    private final NotificationConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Counter rowsArchived;
+    private final Timer batchTimer;
+
+    public NotificationArchiveService(
+            NotificationRepository notificationRepository,
+            ArchivedNotificationRepository archivedNotificationRepository,
+            NotificationConfig config,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.archivedNotificationRepository = archivedNotificationRepository;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.rowsArchived = Counter.builder("notification.archive.rows")
+                .description("Notifications moved to the archive table")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.archive.batch")
+                .description("Time spent moving one batch of notifications to the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives eligible notifications until none are left or the time budget
+     * runs out; returns the number of rows moved.
+     */
+    public int archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(config.getArchiveAfter());
+        long deadline = System.nanoTime() + config.getArchiveMaxRunTime().toNanos();
+
+        int total = 0;
+        int moved;
+        do {
+            moved = batchTimer.record(() -> archiveBatch(cutoff));
+            total += moved;
+        } while (moved == config.getArchiveBatchSize() && System.nanoTime() < deadline);
+
+        if (moved == config.getArchiveBatchSize()) {
+            log.info("Notification archive stopped at its time budget after {} rows; resuming next run", total);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = notificationRepository.findArchivableIds(
+                    cutoff, PageRequest.of(0, config.getArchiveBatchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archivedNotificationRepository.copyFromNotifications(ids);
+            return notificationRepository.deleteByIdIn(ids);
+        });
+        int rows = moved == null ? 0 : moved;
+        rowsArchived.increment(rows);
+        return rows;
+    }
+}
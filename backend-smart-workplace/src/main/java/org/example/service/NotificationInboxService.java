@@ -0,0 +1,112 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.config.NotificationConfig;
+import org.example.dto.NotificationPageDTO;
+import org.example.dto.NotificationResponseDTO;
+import org.example.entity.Notification;
+import org.example.repository.NotificationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The user's notification inbox: sent notifications, newest first, paged by a
+ * (scheduledAt, id) keyset cursor so deep pages cost the same as the first.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationConfig notificationConfig;
+    private final Clock clock;
+
+    /**
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageDTO getInbox(Long userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, notificationConfig.getMaxPageSize()));
+        // One extra row tells whether another page follows.
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationRepository.findInbox(userId, page);
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = notificationRepository.findInboxBefore(userId, position.scheduledAt(), position.id(), page);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Notification> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Notification last = items.get(items.size() - 1);
+            nextCursor = new Cursor(last.getScheduledAt(), last.getId()).encode();
+        }
+
+        return NotificationPageDTO.builder()
+                .items(items.stream().map(NotificationResponseDTO::from).toList())
+                .nextCursor(nextCursor)
+                .unreadCount(unreadCountCache.get(userId))
+                .build();
+    }
+
+    /**
+     * Marks the user's notifications with these ids as read; ids belonging to
+     * other users or already read are ignored. Returns how many were marked.
+     */
+    @Transactional
+    public int markRead(Long userId, Collection<Long> ids) {
+        int updated = notificationRepository.markRead(userId, ids, LocalDateTime.now(clock));
+        unreadCountCache.decrement(userId, updated);
+        return updated;
+    }
+
+    @Transactional
+    public int markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId, LocalDateTime.now(clock));
+        unreadCountCache.decrement(userId, updated);
+        return updated;
+    }
+
+    public long getUnreadCount(Long userId) {
+        return unreadCountCache.get(userId);
+    }
+
+    private record Cursor(LocalDateTime scheduledAt, Long id) {
+
+        String encode() {
+            String raw = scheduledAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                return new Cursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1))
+                );
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+}
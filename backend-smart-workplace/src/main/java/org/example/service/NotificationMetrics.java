@@ -0,0 +1,82 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.NotificationConfig;
+import org.example.entity.Notification;
+import org.example.repository.NotificationRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * notification.backlog: unsent notifications that are already due, from an indexed
+ * count cached for {@code notifications.backlog-cache-ttl} so scrapes stay cheap.
+ * notification.lag: sentAt - scheduledAt per notification type.
+ */
+@Component
+@Slf4j
+public class NotificationMetrics {
+
+    private final NotificationRepository notificationRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final long cacheTtlNanos;
+
+    // A lock rather than synchronized: the refresh queries the database, and a
+    // virtual thread blocking inside synchronized would pin its carrier.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private double cachedBacklog = Double.NaN;
+    private long cachedAtNanos;
+
+    public NotificationMetrics(
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry,
+            NotificationConfig notificationConfig,
+            Clock clock
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.cacheTtlNanos = notificationConfig.getBacklogCacheTtl().toNanos();
+
+        Gauge.builder("notification.backlog", this, NotificationMetrics::dueBacklog)
+                .description("Unsent notifications whose scheduled time has passed")
+                .register(meterRegistry);
+    }
+
+    double dueBacklog() {
+        refreshLock.lock();
+        try {
+            long now = System.nanoTime();
+            if (Double.isNaN(cachedBacklog) || now - cachedAtNanos >= cacheTtlNanos) {
+                try {
+                    cachedBacklog = notificationRepository.countBySentFalseAndScheduledAtBefore(LocalDateTime.now(clock));
+                    cachedAtNanos = now;
+                } catch (RuntimeException e) {
+                    log.warn("Could not refresh notification backlog: {}", e.getMessage());
+                }
+            }
+            return cachedBacklog;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void recordLag(Notification notification) {
+        if (notification.getSentAt() == null || notification.getScheduledAt() == null) {
+            return;
+        }
+        Duration lag = Duration.between(notification.getScheduledAt(), notification.getSentAt());
+        Timer.builder("notification.lag")
+                .description("Delay between a notification's scheduled time and its dispatch")
+                .tag("type", notification.getType().name())
+                .register(meterRegistry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+}
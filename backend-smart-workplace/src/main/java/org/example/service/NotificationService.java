@@ -1,6 +1,7 @@
 package org.example.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.dto.NotificationResponseDTO;
 import org.example.entity.Notification;
 import org.example.entity.NotificationType;
 import org.example.repository.NotificationRepository;
@@ -15,6 +16,8 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final Clock clock;
+    private final NotificationStreamHub notificationStreamHub;
+    private final UnreadCountCache unreadCountCache;
 
     public void schedule(
             Long userId,
@@ -52,6 +55,8 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        unreadCountCache.increment(userId);
+        notificationStreamHub.publish(userId, NotificationResponseDTO.from(notification));
     }
 
     public void markAsSent(Notification notification) {
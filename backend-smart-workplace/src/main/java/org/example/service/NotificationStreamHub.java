@@ -0,0 +1,134 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.NotificationConfig;
+import org.example.dto.NotificationResponseDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans notifications out to the SSE streams each user has open on this instance.
+ * <p>
+ * Streams are async servlet responses, so an idle connection holds no thread.
+ * Writes happen on virtual threads, so a slow client never blocks the
+ * dispatcher. Publishing inside a transaction is deferred until after commit,
+ * so clients never see a notification that was rolled back.
+ */
+@Component
+@Slf4j
+public class NotificationStreamHub {
+
+    private final NotificationConfig config;
+    private final Map<Long, Set<SseEmitter>> streams = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat;
+
+    public NotificationStreamHub(NotificationConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatMillis = config.getStreamHeartbeat().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("notification.stream.connections", this, NotificationStreamHub::connectionCount)
+                .description("Open notification SSE streams on this instance")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(config.getStreamTimeout().toMillis());
+        Set<SseEmitter> userStreams = streams.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>());
+        userStreams.add(emitter);
+
+        Runnable remove = () -> removeStream(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        try {
+            // Commits the response headers so proxies start streaming right away.
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    public void publish(Long userId, NotificationResponseDTO notification) {
+        if (!streams.containsKey(userId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    senders.execute(() -> deliver(userId, notification));
+                }
+            });
+        } else {
+            senders.execute(() -> deliver(userId, notification));
+        }
+    }
+
+    public int connectionCount() {
+        return streams.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        senders.shutdown();
+        streams.values().forEach(userStreams -> userStreams.forEach(SseEmitter::complete));
+        streams.clear();
+    }
+
+    private void deliver(Long userId, NotificationResponseDTO notification) {
+        for (SseEmitter emitter : streams.getOrDefault(userId, Set.of())) {
+            try {
+                // Event builders are single use, so build one per stream.
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(notification.getId()))
+                        .name(notification.getType().name())
+                        .data(notification));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping notification stream for user {}: {}", userId, e.getMessage());
+                removeStream(userId, emitter);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        streams.forEach((userId, userStreams) -> userStreams.forEach(emitter -> senders.execute(() -> {
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                removeStream(userId, emitter);
+            }
+        })));
+    }
+
+    private void removeStream(Long userId, SseEmitter emitter) {
+        streams.computeIfPresent(userId, (id, userStreams) -> {
+            userStreams.remove(emitter);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Minimal MIME writer for SES SendRawEmail:
+ * multipart/mixed { multipart/alternative { text, html }, attachment }.
+ * SendRawEmail takes the whole message as one byte array, so that array is
+ * the only copy kept: a first pass measures the message, a second one
+ * base64 encodes the parts, and the attachment file, straight into an array
+ * of exactly that size.
+ */
+class RawEmailBuilder {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private String from;
+    private String to;
+    private String subject;
+    private String textBody;
+    private String htmlBody;
+    private String attachmentFileName;
+    private String attachmentContentType;
+    private Path attachment;
+
+    RawEmailBuilder from(String from) {
+        this.from = from;
+        return this;
+    }
+
+    RawEmailBuilder to(String to) {
+        this.to = to;
+        return this;
+    }
+
+    RawEmailBuilder subject(String subject) {
+        this.subject = subject;
+        return this;
+    }
+
+    RawEmailBuilder textBody(String textBody) {
+        this.textBody = textBody;
+        return this;
+    }
+
+    RawEmailBuilder htmlBody(String htmlBody) {
+        this.htmlBody = htmlBody;
+        return this;
+    }
+
+    RawEmailBuilder attachment(String fileName, String contentType, Path content) {
+        this.attachmentFileName = fileName;
+        this.attachmentContentType = contentType;
+        this.attachment = content;
+        return this;
+    }
+
+    byte[] build() {
+        String mixedBoundary = "mixed-" + UUID.randomUUID();
+        String alternativeBoundary = "alt-" + UUID.randomUUID();
+        try {
+            MessageOutputStream size = new MessageOutputStream(null);
+            write(size, mixedBoundary, alternativeBoundary);
+            MessageOutputStream message = new MessageOutputStream(new byte[Math.toIntExact(size.count)]);
+            write(message, mixedBoundary, alternativeBoundary);
+            return message.target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(OutputStream out, String mixedBoundary, String alternativeBoundary) throws IOException {
+        header(out, "From", from);
+        header(out, "To", to);
+        header(out, "Subject", encodeHeader(subject));
+        header(out, "MIME-Version", "1.0");
+        header(out, "Content-Type", "multipart/mixed; boundary=\"" + mixedBoundary + "\"");
+        out.write(CRLF);
+
+        boundary(out, mixedBoundary);
+        header(out, "Content-Type", "multipart/alternative; boundary=\"" + alternativeBoundary + "\"");
+        out.write(CRLF);
+
+        boundary(out, alternativeBoundary);
+        base64Part(out, "text/plain; charset=UTF-8", textBody.getBytes(StandardCharsets.UTF_8));
+        boundary(out, alternativeBoundary);
+        base64Part(out, "text/html; charset=UTF-8", htmlBody.getBytes(StandardCharsets.UTF_8));
+        closeBoundary(out, alternativeBoundary);
+
+        if (attachment != null) {
+            boundary(out, mixedBoundary);
+            partHeaders(out, attachmentContentType + "; name=\"" + attachmentFileName + "\"",
+                    "attachment; filename=\"" + attachmentFileName + "\"");
+            try (OutputStream encoder = Base64.getMimeEncoder().wrap(new NonClosingOutputStream(out))) {
+                Files.copy(attachment, encoder);
+            }
+            out.write(CRLF);
+        }
+        closeBoundary(out, mixedBoundary);
+    }
+
+    private static void base64Part(OutputStream out, String contentType, byte[] content) throws IOException {
+        partHeaders(out, contentType, null);
+        OutputStream encoder = Base64.getMimeEncoder().wrap(new NonClosingOutputStream(out));
+        encoder.write(content);
+        encoder.close();
+        out.write(CRLF);
+    }
+
+    private static void partHeaders(OutputStream out, String contentType, String disposition) throws IOException {
+        header(out, "Content-Type", contentType);
+        header(out, "Content-Transfer-Encoding", "base64");
+        if (disposition != null) {
+            header(out, "Content-Disposition", disposition);
+        }
+        out.write(CRLF);
+    }
+
+    private static void header(OutputStream out, String name, String value) throws IOException {
+        out.write((name + ": " + value).getBytes(StandardCharsets.UTF_8));
+        out.write(CRLF);
+    }
+
+    private static void boundary(OutputStream out, String boundary) throws IOException {
+        out.write(("--" + boundary).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    private static void closeBoundary(OutputStream out, String boundary) throws IOException {
+        out.write(("--" + boundary + "--").getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    /**
+     * RFC 2047 encoded-word for non-ASCII header values.
+     */
+    private static String encodeHeader(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 127) {
+                return "=?UTF-8?B?" + Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)) + "?=";
+            }
+        }
+        return value;
+    }
+
+    private static final class NonClosingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private NonClosingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Counts the bytes written, and copies them into {@code target} when one is given.
+     */
+    private static final class MessageOutputStream extends OutputStream {
+
+        private final byte[] target;
+        private long count;
+
+        private MessageOutputStream(byte[] target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) {
+            if (target != null) {
+                target[(int) count] = (byte) b;
+            }
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (target != null) {
+                System.arraycopy(b, off, target, (int) count, len);
+            }
+            count += len;
+        }
+    }
+}
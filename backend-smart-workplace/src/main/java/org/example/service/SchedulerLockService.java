@@ -0,0 +1,145 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.SchedulerLock;
+import org.example.repository.SchedulerLockRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database lease locks so each scheduled job runs on one instance at a time.
+ * <p>
+ * A run takes the lock for {@code lockAtMostFor}, renews it every third of that
+ * while the job is still running, and on completion keeps it until
+ * {@code lockAtLeastFor} after the start, so a node whose cron fires a moment
+ * later does not repeat the same run. Lock changes commit in their own
+ * transactions, independent of the job's.
+ */
+@Service
+@Slf4j
+public class SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate requiresNew;
+    private final Clock clock;
+    private final String owner;
+    private final ScheduledExecutorService heartbeat;
+
+    @Autowired
+    public SchedulerLockService(
+            SchedulerLockRepository schedulerLockRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        this(schedulerLockRepository, transactionManager, clock, NodeIds.newOwnerId());
+    }
+
+    SchedulerLockService(
+            SchedulerLockRepository schedulerLockRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            String owner
+    ) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.owner = owner;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lock-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code task} if this instance gets the lock; returns false when another
+     * instance holds it and the run was skipped.
+     */
+    public boolean runLocked(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        Instant startedAt = clock.instant();
+        if (!tryAcquire(name, startedAt, lockAtMostFor)) {
+            log.debug("Skipping {}: lock held by another instance", name);
+            return false;
+        }
+
+        long renewEveryMillis = Math.max(1_000, lockAtMostFor.toMillis() / 3);
+        ScheduledFuture<?> renewal = heartbeat.scheduleAtFixedRate(
+                () -> extend(name, lockAtMostFor),
+                renewEveryMillis,
+                renewEveryMillis,
+                TimeUnit.MILLISECONDS
+        );
+        try {
+            task.run();
+            return true;
+        } finally {
+            renewal.cancel(false);
+            release(name, startedAt.plus(lockAtLeastFor));
+        }
+    }
+
+    boolean tryAcquire(String name, Instant now, Duration lease) {
+        Instant until = now.plus(lease);
+        try {
+            return Boolean.TRUE.equals(requiresNew.execute(status -> {
+                if (schedulerLockRepository.tryAcquire(name, owner, now, until) == 1) {
+                    return true;
+                }
+                if (schedulerLockRepository.existsById(name)) {
+                    return false;
+                }
+                schedulerLockRepository.saveAndFlush(SchedulerLock.builder()
+                        .name(name)
+                        .lockedBy(owner)
+                        .lockedAt(now)
+                        .lockedUntil(until)
+                        .build());
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance inserted the row first.
+            return false;
+        }
+    }
+
+    private void extend(String name, Duration lease) {
+        try {
+            Integer updated = requiresNew.execute(status ->
+                    schedulerLockRepository.extend(name, owner, clock.instant().plus(lease)));
+            if (updated == null || updated == 0) {
+                log.warn("Lost scheduler lock {} while the job was still running", name);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not renew scheduler lock {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void release(String name, Instant keepUntil) {
+        Instant now = clock.instant();
+        Instant until = keepUntil.isAfter(now) ? keepUntil : now;
+        try {
+            requiresNew.executeWithoutResult(status -> schedulerLockRepository.extend(name, owner, until));
+        } catch (RuntimeException e) {
+            log.warn("Could not release scheduler lock {}; it expires at its lease: {}", name, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.service;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that hands out reservations instead of blocking: {@link #reserve()}
+ * takes a token and returns how long the caller must wait before using it.
+ * Tokens refill continuously at {@code permitsPerSecond}, up to one second of burst.
+ */
+class TokenBucketRateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoTime;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucketRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, LongSupplier nanoTime) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = Math.max(1d, permitsPerSecond);
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes one token and returns the delay in nanoseconds until it may be used.
+     */
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+}
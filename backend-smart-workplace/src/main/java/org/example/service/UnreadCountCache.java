@@ -0,0 +1,94 @@
+package org.example.service;
+
+import org.example.config.NotificationConfig;
+import org.example.repository.NotificationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user unread notification counts kept in memory, so badge refreshes do not
+ * count rows.
+ * <p>
+ * A count is loaded on first use and then adjusted as notifications are sent
+ * and read on this instance. Adjustments made inside a transaction apply after
+ * commit. Entries are recounted after {@code notifications.unread-cache-ttl},
+ * which bounds drift from changes made on other instances.
+ * <p>
+ * Counts are always loaded in a separate read-write transaction, so they come
+ * from the primary even when the caller is a read-only transaction routed to
+ * the replica; a lagging replica would otherwise pin a stale count for the
+ * whole TTL.
+ */
+@Component
+public class UnreadCountCache {
+
+    private record Entry(long count, long loadedAtNanos) {
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate primaryRead;
+    private final long ttlNanos;
+    private final Map<Long, Entry> counts = new ConcurrentHashMap<>();
+
+    public UnreadCountCache(
+            NotificationRepository notificationRepository,
+            PlatformTransactionManager transactionManager,
+            NotificationConfig config
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryRead.setReadOnly(false);
+        this.ttlNanos = config.getUnreadCacheTtl().toNanos();
+    }
+
+    public long get(Long userId) {
+        long now = System.nanoTime();
+        Entry entry = counts.get(userId);
+        if (entry != null && now - entry.loadedAtNanos() < ttlNanos) {
+            return entry.count();
+        }
+        long count = primaryRead.execute(status ->
+                notificationRepository.countByUserIdAndSentTrueAndReadAtIsNull(userId));
+        counts.put(userId, new Entry(count, now));
+        return count;
+    }
+
+    /**
+     * A notification for the user was sent (and so became unread).
+     */
+    public void increment(Long userId) {
+        adjust(userId, 1);
+    }
+
+    /**
+     * {@code read} notifications of the user were marked read.
+     */
+    public void decrement(Long userId, int read) {
+        if (read > 0) {
+            adjust(userId, -read);
+        }
+    }
+
+    private void adjust(Long userId, long delta) {
+        Runnable apply = () -> counts.computeIfPresent(userId,
+                (id, entry) -> new Entry(Math.max(0, entry.count() + delta), entry.loadedAtNanos()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
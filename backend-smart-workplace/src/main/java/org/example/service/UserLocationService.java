@@ -1,106 +1,86 @@
 package org.example.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.example.dto.LocationFixDTO;
 import org.example.dto.LocationUpdateRequestDTO;
-import org.example.entity.BookingStatus;
-import org.example.entity.MealBooking;
-import org.example.entity.User;
 import org.example.entity.UserLocation;
-import org.example.repository.MealBookingRepository;
 import org.example.repository.UserLocationRepository;
-import org.example.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 
 @Service
 @RequiredArgsConstructor
 public class UserLocationService {
 
     public final UserLocationRepository repository;
-    public final MealBookingRepository mealBookingRepository;
-    public final UserRepository userRepository;
+    public final LocationHistoryService locationHistoryService;
+    public final BookingPolicy bookingPolicy;
+    public final GeofenceTracker geofenceTracker;
     public final Clock clock;
-
-    private double officeLatitude = 18.5204;
-    private double officeLongitude = 73.8567;
-    private double geofenceRadiusMeters = 500;
+    public final MeterRegistry meterRegistry;
 
     public void saveLocation(Long userId, LocationUpdateRequestDTO request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String decision = processLocation(userId, request);
+        sample.stop(Timer.builder("location.update")
+                .tag("decision", decision)
+                .register(meterRegistry));
+    }
 
-        LocalDate today = LocalDate.now(clock);
-
-        if (today.getDayOfWeek().getValue() >= 6) {
-            return;
-        }
-        LocalTime now = LocalTime.now(clock);
-//        LocalTime lunchStart = LocalTime.of(0, 0); // Testing: All day
-//        LocalTime lunchEnd = LocalTime.of(23, 59); // Testing: All day
-        LocalTime lunchStart = LocalTime.of(12, 0);
-        LocalTime lunchEnd = LocalTime.of(14, 30);
-
-        saveUserLocation(userId, request);
-
-        if (now.isBefore(lunchStart) || now.isAfter(lunchEnd)) {
-            return;
-        }
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) return;
+    /**
+     * Feeds the fix to the geofence tracker and stores it unless the tracker
+     * filtered it out as inaccurate or a duplicate; availability is updated by
+     * {@link LunchAttendanceListener} when the user crosses the fence, and
+     * no-shows are defaulted by {@code LunchNoShowScheduler} when the lunch
+     * window ends. Returns the decision taken.
+     */
+    private String processLocation(Long userId, LocationUpdateRequestDTO request) {
 
-        MealBooking booking = mealBookingRepository
-                .findByUserAndBookingDate(user, today)
-                .orElse(null);
+        LocalDateTime now = LocalDateTime.now(clock);
 
-        if (booking == null || booking.getAvailableForLunch()) {
-            return;
+        if (!bookingPolicy.isWorkingDay(now.toLocalDate())) {
+            return "non_working_day";
         }
 
-        boolean insideGeofence = isUserWithinGeofence(
+        GeofenceTracker.Result result = geofenceTracker.track(
+                userId,
                 request.getLatitude(),
-                request.getLongitude()
+                request.getLongitude(),
+                request.getAccuracy(),
+                now
         );
-        if (insideGeofence) {
-            booking.setAvailableForLunch(true);
-            mealBookingRepository.save(booking);
-            return;
+        if (result.outcome() == GeofenceTracker.FixOutcome.INACCURATE) {
+            return "inaccurate_fix";
         }
-        if (now.equals(lunchEnd)) {
-            booking.setStatus(BookingStatus.DEFAULT);
-            mealBookingRepository.save(booking);
+        if (result.outcome() == GeofenceTracker.FixOutcome.DUPLICATE) {
+            return "duplicate_fix";
         }
+
+        saveUserLocation(userId, request, now);
+        return result.zone() == GeofenceTracker.Zone.INSIDE ? "inside_geofence" : "outside_geofence";
     }
 
-    private void saveUserLocation(Long userId, LocationUpdateRequestDTO request) {
+    /**
+     * Overwrites the user's latest position and appends the fix to the history.
+     */
+    private void saveUserLocation(Long userId, LocationUpdateRequestDTO request, LocalDateTime now) {
         UserLocation location = UserLocation.builder()
                 .userId(userId)
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
-                .updatedAt(LocalDateTime.now(clock))
+                .updatedAt(now)
                 .build();
 
         repository.save(location);
-    }
-
-    private boolean isUserWithinGeofence(double userLat, double userLon) {
-        double distance = calculateDistance(
-                userLat, userLon,
-                officeLatitude, officeLongitude
-        );
-        return distance <= geofenceRadiusMeters;
-    }
-
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371000;
-        double latDist = Math.toRadians(lat2 - lat1);
-        double lonDist = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(latDist / 2) * Math.sin(latDist / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDist / 2) * Math.sin(lonDist / 2);
-
-        return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        locationHistoryService.record(LocationFixDTO.builder()
+                .userId(userId)
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .recordedAt(now)
+                .build());
     }
 }
@@ -0,0 +1,153 @@
+package org.example.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Office calendar with a precomputed index of working days.
+ * <p>
+ * Days inside the indexed horizon are answered from a flag table (O(1)) and a
+ * sorted array of working days (O(log n) for "next/previous N working days").
+ * Days outside the horizon fall back to the weekend table and holiday set, so
+ * answers stay correct for any date.
+ */
+public class WorkingDayCalendar {
+
+    private final boolean[] weekendDays;
+    private final Set<LocalDate> holidays;
+
+    private final long firstIndexedEpochDay;
+    private final boolean[] workingByOffset;
+    private final int[] workingEpochDays;
+
+    public WorkingDayCalendar(boolean[] weekendDays, Set<LocalDate> holidays, LocalDate indexStart, LocalDate indexEnd) {
+        this.weekendDays = weekendDays.clone();
+        this.holidays = Set.copyOf(new HashSet<>(holidays));
+        this.firstIndexedEpochDay = indexStart.toEpochDay();
+
+        int days = (int) (indexEnd.toEpochDay() - firstIndexedEpochDay + 1);
+        this.workingByOffset = new boolean[days];
+        int[] working = new int[days];
+        int count = 0;
+        LocalDate date = indexStart;
+        for (int offset = 0; offset < days; offset++, date = date.plusDays(1)) {
+            if (computeWorkingDay(date)) {
+                workingByOffset[offset] = true;
+                working[count++] = (int) date.toEpochDay();
+            }
+        }
+        this.workingEpochDays = Arrays.copyOf(working, count);
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidays.contains(date);
+    }
+
+    public boolean isWeekend(LocalDate date) {
+        return weekendDays[date.getDayOfWeek().getValue()];
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        long offset = date.toEpochDay() - firstIndexedEpochDay;
+        if (offset >= 0 && offset < workingByOffset.length) {
+            return workingByOffset[(int) offset];
+        }
+        return computeWorkingDay(date);
+    }
+
+    /**
+     * Working days in the inclusive range, in ascending order.
+     */
+    public List<LocalDate> workingDaysBetween(LocalDate start, LocalDate end) {
+        List<LocalDate> result = new ArrayList<>();
+        if (end.isBefore(start)) {
+            return result;
+        }
+        if (isIndexed(start) && isIndexed(end)) {
+            int from = lowerBound(start.toEpochDay());
+            int to = lowerBound(end.toEpochDay() + 1);
+            for (int i = from; i < to; i++) {
+                result.add(LocalDate.ofEpochDay(workingEpochDays[i]));
+            }
+            return result;
+        }
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            if (computeWorkingDay(date)) {
+                result.add(date);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The first {@code count} working days on or after {@code from}.
+     */
+    public List<LocalDate> nextWorkingDays(LocalDate from, int count) {
+        List<LocalDate> result = new ArrayList<>(count);
+        if (isIndexed(from)) {
+            int start = lowerBound(from.toEpochDay());
+            for (int i = start; i < workingEpochDays.length && result.size() < count; i++) {
+                result.add(LocalDate.ofEpochDay(workingEpochDays[i]));
+            }
+            if (result.size() == count) {
+                return result;
+            }
+            from = result.isEmpty() ? from : result.get(result.size() - 1).plusDays(1);
+        }
+        for (LocalDate date = from; result.size() < count; date = date.plusDays(1)) {
+            if (computeWorkingDay(date)) {
+                result.add(date);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The working day that lies {@code count} working days before {@code date}
+     * (exclusive), e.g. the start of a "last N working days" window.
+     */
+    public LocalDate workingDaysBefore(LocalDate date, int count) {
+        if (isIndexed(date)) {
+            int index = lowerBound(date.toEpochDay()) - count;
+            if (index >= 0) {
+                return LocalDate.ofEpochDay(workingEpochDays[index]);
+            }
+        }
+        LocalDate cursor = date;
+        int found = 0;
+        while (found < count) {
+            cursor = cursor.minusDays(1);
+            if (computeWorkingDay(cursor)) {
+                found++;
+            }
+        }
+        return cursor;
+    }
+
+    private boolean isIndexed(LocalDate date) {
+        long offset = date.toEpochDay() - firstIndexedEpochDay;
+        return offset >= 0 && offset < workingByOffset.length;
+    }
+
+    private int lowerBound(long epochDay) {
+        int low = 0;
+        int high = workingEpochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (workingEpochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean computeWorkingDay(LocalDate date) {
+        return !isWeekend(date) && !holidays.contains(date);
+    }
+}
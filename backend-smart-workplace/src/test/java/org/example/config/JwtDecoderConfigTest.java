@@ -0,0 +1,101 @@
+package org.example.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The decoder built by {@link SecurityConfig#jwtDecoder} must keep the checks
+ * Boot's own decoders apply.
+ */
+class JwtDecoderConfigTest {
+
+    private static final String ISSUER = "https://sts.windows.net/tenant/";
+    private static final String AUDIENCE = "api://meal-booking";
+
+    @TempDir
+    static Path keyDir;
+
+    private static KeyPair keyPair;
+
+    @BeforeAll
+    static void generateKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        Files.writeString(keyDir.resolve("public.pem"), "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+    }
+
+    private static OAuth2ResourceServerProperties publicKeyProperties() {
+        OAuth2ResourceServerProperties properties = new OAuth2ResourceServerProperties();
+        properties.getJwt().setPublicKeyLocation(new FileSystemResource(keyDir.resolve("public.pem")));
+        properties.getJwt().setIssuerUri(ISSUER);
+        properties.getJwt().setAudiences(List.of(AUDIENCE));
+        return properties;
+    }
+
+    private static String token(String issuer, String audience) throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), new JWTClaimsSet.Builder()
+                .subject("user")
+                .issuer(issuer)
+                .audience(audience)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(600)))
+                .build());
+        jwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        return jwt.serialize();
+    }
+
+    @Test
+    void publicKeyDecoder_AcceptsConfiguredIssuerAndAudience() throws Exception {
+        JwtDecoder decoder = new SecurityConfig().jwtDecoder(publicKeyProperties());
+
+        assertEquals("user", decoder.decode(token(ISSUER, AUDIENCE)).getSubject());
+    }
+
+    @Test
+    void publicKeyDecoder_RejectsOtherIssuer() throws Exception {
+        JwtDecoder decoder = new SecurityConfig().jwtDecoder(publicKeyProperties());
+
+        assertThrows(JwtValidationException.class,
+                () -> decoder.decode(token("https://sts.windows.net/other/", AUDIENCE)));
+    }
+
+    @Test
+    void publicKeyDecoder_RejectsOtherAudience() throws Exception {
+        JwtDecoder decoder = new SecurityConfig().jwtDecoder(publicKeyProperties());
+
+        assertThrows(JwtValidationException.class, () -> decoder.decode(token(ISSUER, "api://other")));
+    }
+
+    @Test
+    void noKeySource_FailsAtStartup() {
+        assertThrows(IllegalStateException.class,
+                () -> new SecurityConfig().jwtDecoder(new OAuth2ResourceServerProperties()));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.example.dto.BookingSummaryRowDTO;
+import org.example.dto.SingleMealBookingResponseDTO;
+import org.example.entity.BookingStatus;
+import org.example.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfig.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void dtosAndEntitiesAreRegisteredForJsonBinding() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(SingleMealBookingResponseDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookingStatus.class).test(hints));
+    }
+
+    @Test
+    void projectionConstructorsAreInvocable() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(BookingSummaryRowDTO.class.getConstructor(
+                        String.class, String.class, LocalDateTime.class, BookingStatus.class))
+                .invoke()
+                .test(hints));
+    }
+
+    @Test
+    void cacheProviderAndResourcesAreIncluded() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(CaffeineCachingProvider.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("reference.conf").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/resources/webjars/swagger-ui/5.13.0/index.html").test(hints));
+    }
+}
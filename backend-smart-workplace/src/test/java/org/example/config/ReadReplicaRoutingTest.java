@@ -0,0 +1,199 @@
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.entity.BookingStatus;
+import org.example.entity.MealBooking;
+import org.example.entity.Notification;
+import org.example.entity.NotificationType;
+import org.example.entity.Role;
+import org.example.entity.User;
+import org.example.event.GeofenceTransition;
+import org.example.event.GeofenceTransitionEvent;
+import org.example.repository.MealBookingRepository;
+import org.example.repository.NotificationRepository;
+import org.example.repository.UserRepository;
+import org.example.scheduler.FixedClockConfig;
+import org.example.service.UnreadCountCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing between two in-memory H2 databases standing in for the primary and
+ * the replica; {@code DATABASE()} tells which one a transaction ran on.
+ */
+@SpringBootTest(properties = {
+        "spring.task.scheduling.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "replica.username=sa",
+        "replica.password="
+})
+@Import({FixedClockConfig.class, TestSecurityConfig.class})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UnreadCountCache unreadCountCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealBookingRepository mealBookingRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select database()", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionRunsOnReplica() {
+        assertEquals("REPLICA", databaseIn(true));
+    }
+
+    @Test
+    void readWriteTransactionRunsOnPrimary() {
+        assertEquals("PRIMARY", databaseIn(false));
+    }
+
+    @Test
+    void unreadCountIsLoadedFromPrimaryInsideReadOnlyTransaction() {
+        // The replica has no schema and never sees this row, as if it lagged.
+        notificationRepository.save(Notification.builder()
+                .userId(4801L)
+                .title("Lunch")
+                .message("Your meal is booked")
+                .type(NotificationType.BOOKING_CONFIRMATION)
+                .sent(true)
+                .scheduledAt(LocalDateTime.of(2026, 1, 26, 9, 0))
+                .sentAt(LocalDateTime.of(2026, 1, 26, 9, 0))
+                .build());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Long unread = readOnly.execute(status -> unreadCountCache.get(4801L));
+
+        assertEquals(1L, unread);
+    }
+
+    @Test
+    void lunchAttendanceReadsBookingFromPrimary() {
+        LocalDate tuesday = LocalDate.of(2026, 1, 27);
+        User user = userRepository.save(User.builder()
+                .name("Replica Lag")
+                .email("replica-lag@example.com")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        Long bookingId = mealBookingRepository.save(MealBooking.builder()
+                .user(user)
+                .bookingDate(tuesday)
+                .bookedAt(tuesday.minusDays(2).atTime(10, 0))
+                .status(BookingStatus.BOOKED)
+                .availableForLunch(false)
+                .build()).getId();
+
+        eventPublisher.publishEvent(new GeofenceTransitionEvent(
+                user.getId(), GeofenceTransition.ENTER, tuesday.atTime(11, 0), Duration.ZERO));
+
+        Boolean available = new TransactionTemplate(transactionManager).execute(status ->
+                mealBookingRepository.findById(bookingId).orElseThrow().getAvailableForLunch());
+        assertTrue(available);
+    }
+
+    @Test
+    void replicaOutageFallsBackToPrimaryUntilRetry() throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        DataSource primary = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-26T06:30:00Z"));
+        ReplicaFallbackDataSource fallback = new ReplicaFallbackDataSource(replica, primary, Duration.ofSeconds(30), clock);
+
+        assertSame(primaryConnection, fallback.getConnection());
+        clock.advance(Duration.ofSeconds(10));
+        assertSame(primaryConnection, fallback.getConnection());
+        verify(replica, times(1)).getConnection();
+
+        clock.advance(Duration.ofSeconds(30));
+        assertSame(primaryConnection, fallback.getConnection());
+        verify(replica, times(2)).getConnection();
+    }
+
+    @Test
+    void poolsAreNamedForMetrics(@Autowired HikariDataSource primaryDataSource,
+                                 @Autowired HikariDataSource replicaDataSource) {
+        assertEquals("primary", primaryDataSource.getPoolName());
+        assertEquals("replica", replicaDataSource.getPoolName());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.controller;
+
+import org.example.dto.NotificationResponseDTO;
+import org.example.entity.NotificationType;
+import org.example.entity.User;
+import org.example.security.SecurityUserResolver;
+import org.example.service.NotificationStreamHub;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class NotificationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NotificationStreamHub notificationStreamHub;
+
+    @MockBean
+    private SecurityUserResolver securityUserResolver;
+
+    @Test
+    void streamNotifications_DeliversPublishedNotificationsToTheUser() throws Exception {
+        when(securityUserResolver.resolveUser()).thenReturn(User.builder().id(7L).build());
+
+        MvcResult result = mockMvc.perform(get("/api/notifications/stream")
+                        .with(org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        notificationStreamHub.publish(8L, notification(2L, "For someone else"));
+        notificationStreamHub.publish(7L, notification(1L, "Book tomorrow"));
+
+        MockHttpServletResponse response = result.getResponse();
+        String body = awaitContent(response, "Book tomorrow");
+
+        assertTrue(body.contains("event:MEAL_REMINDER"));
+        assertTrue(body.contains("id:1"));
+        assertFalse(body.contains("For someone else"));
+        assertTrue(notificationStreamHub.connectionCount() >= 1);
+    }
+
+    private NotificationResponseDTO notification(Long id, String message) {
+        return NotificationResponseDTO.builder()
+                .id(id)
+                .title("Meal Reminder")
+                .message(message)
+                .type(NotificationType.MEAL_REMINDER)
+                .sentAt(LocalDateTime.of(2026, 1, 26, 18, 0))
+                .build();
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String body = response.getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        return body;
+    }
+}
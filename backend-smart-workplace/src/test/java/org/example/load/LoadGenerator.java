@@ -0,0 +1,179 @@
+package org.example.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load: {@code concurrency} clients, each on its own virtual
+ * thread, send requests back to back for the given duration, picking each
+ * request's operation at random by weight. The first {@code warmup} is not
+ * measured.
+ */
+class LoadGenerator {
+
+    /**
+     * @param requests builds the n-th request of this operation; called with a
+     *                 counter that is unique across clients
+     */
+    record Operation(String name, int weight, IntFunction<HttpRequest> requests) {
+    }
+
+    /**
+     * {@code errors} are transport failures and 5xx responses; {@code rejected}
+     * are 4xx responses, which a mixed workload produces on purpose (booking a
+     * day twice, cancelling a day that was never booked).
+     */
+    record Result(String name, long requests, long errors, long rejected, double throughputPerSecond,
+                  double p50Millis, double p95Millis, double p99Millis, double statementsPerRequest) {
+
+        Result withStatementsPerRequest(double statements) {
+            return new Result(name, requests, errors, rejected, throughputPerSecond,
+                    p50Millis, p95Millis, p99Millis, statements);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %8d req %5d err %6d 4xx %9.1f req/s  p50 %7.2f ms  p95 %7.2f ms  p99 %7.2f ms%s",
+                    name, requests, errors, rejected, throughputPerSecond, p50Millis, p95Millis, p99Millis,
+                    Double.isNaN(statementsPerRequest) ? "" : String.format("  %5.1f sql/req", statementsPerRequest));
+        }
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    Result run(String name, int concurrency, Duration warmup, Duration duration,
+               IntFunction<HttpRequest> requests) throws Exception {
+        return run(concurrency, warmup, duration, List.of(new Operation(name, 1, requests))).get(0);
+    }
+
+    /**
+     * @return one result per operation, in the order given
+     */
+    List<Result> run(int concurrency, Duration warmup, Duration duration, List<Operation> mix) throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+        AtomicInteger[] sequences = new AtomicInteger[mix.size()];
+        Arrays.setAll(sequences, i -> new AtomicInteger());
+
+        List<Future<Recorder[]>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                clients.add(executor.submit(() -> {
+                    Recorder[] recorders = new Recorder[mix.size()];
+                    Arrays.setAll(recorders, i -> new Recorder());
+                    while (System.nanoTime() < stopAt) {
+                        int op = pick(mix, ThreadLocalRandom.current().nextInt(totalWeight));
+                        HttpRequest request = mix.get(op).requests().apply(sequences[op].getAndIncrement());
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        }
+                        long end = System.nanoTime();
+                        if (start >= measureFrom) {
+                            recorders[op].record(end - start, status);
+                        }
+                    }
+                    return recorders;
+                }));
+            }
+        }
+
+        Recorder[] merged = new Recorder[mix.size()];
+        Arrays.setAll(merged, i -> new Recorder());
+        for (Future<Recorder[]> client : clients) {
+            Recorder[] recorders = client.get();
+            for (int op = 0; op < mix.size(); op++) {
+                merged[op].addAll(recorders[op]);
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (int op = 0; op < mix.size(); op++) {
+            results.add(merged[op].result(mix.get(op).name(), duration));
+        }
+        return results;
+    }
+
+    private static int pick(List<Operation> mix, int roll) {
+        for (int op = 0; op < mix.size(); op++) {
+            roll -= mix.get(op).weight();
+            if (roll < 0) {
+                return op;
+            }
+        }
+        return mix.size() - 1;
+    }
+
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long rejected;
+
+        void record(long nanos, int status) {
+            if (status < 0 || status >= 500) {
+                errors++;
+            } else if (status >= 400) {
+                rejected++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void addAll(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            rejected += other.rejected;
+        }
+
+        Result result(String name, Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Result(
+                    name,
+                    count,
+                    errors,
+                    rejected,
+                    count / (duration.toNanos() / 1e9),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99),
+                    Double.NaN
+            );
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
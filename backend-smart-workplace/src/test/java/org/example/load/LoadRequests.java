@@ -0,0 +1,56 @@
+package org.example.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Builds the requests the load tests send, authenticated as the given user
+ * through {@link LoadTestConfig}'s decoder.
+ */
+final class LoadRequests {
+
+    static final String BOOK_SINGLE = "/api/meals/book-single";
+    static final String CANCEL = "/api/meals/cancel";
+    static final String UPCOMING = "/api/meals/upcoming";
+    static final String LOCATION_UPDATE = "/api/location/update";
+
+    private final String baseUrl;
+
+    LoadRequests(int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    HttpRequest bookSingle(String externalId, LocalDate date) {
+        return post(BOOK_SINGLE, externalId, "{\"date\":\"" + date + "\"}");
+    }
+
+    HttpRequest cancel(String externalId, LocalDate date) {
+        return post(CANCEL, externalId, "{\"bookingDate\":\"" + date + "\"}");
+    }
+
+    HttpRequest upcoming(String externalId) {
+        return post(UPCOMING, externalId, "{}");
+    }
+
+    /**
+     * Alternates between the office and a point a few km away as {@code n}
+     * advances, so the geofence sees transitions; small offsets keep
+     * consecutive fixes from being dropped as duplicates.
+     */
+    HttpRequest locationUpdate(String externalId, int n, int users) {
+        double latitude = (n / users) % 2 == 0 ? 18.5204 : 18.56;
+        String body = String.format(Locale.ROOT, "{\"latitude\":%.5f,\"longitude\":73.8567,\"accuracy\":10}",
+                latitude + (n % 7) * 0.0002);
+        return post(LOCATION_UPDATE, externalId, body);
+    }
+
+    private HttpRequest post(String path, String externalId, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", LoadTestConfig.bearer(externalId))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
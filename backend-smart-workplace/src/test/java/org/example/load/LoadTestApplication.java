@@ -0,0 +1,78 @@
+package org.example.load;
+
+import org.example.BackendSmartWorkplaceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the full application on a random port for the load tests: H2 from
+ * the test profile unless {@code -Dload.jdbcUrl} points at PostgreSQL, the
+ * production security chain with {@link LoadTestConfig}'s decoder, and the
+ * data source wrapped for statement counting.
+ */
+final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    static ConfigurableApplicationContext start(boolean virtualThreads, String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "spring.task.scheduling.enabled=true",
+                "logging.level.root=WARN"
+        ));
+        String jdbcUrl = System.getProperty("load.jdbcUrl");
+        if (jdbcUrl != null) {
+            properties.add("spring.datasource.url=" + jdbcUrl);
+            properties.add("spring.datasource.driver-class-name=org.postgresql.Driver");
+            properties.add("spring.datasource.username=" + System.getProperty("load.jdbcUser", "postgres"));
+            properties.add("spring.datasource.password=" + System.getProperty("load.jdbcPassword", ""));
+            properties.add("spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect");
+            properties.add("spring.jpa.hibernate.ddl-auto=update");
+        }
+        properties.addAll(List.of(extraProperties));
+
+        return new SpringApplicationBuilder(BackendSmartWorkplaceApplication.class, LoadTestConfig.class)
+                .profiles("test")
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("loadTestTypeExcludeFilter", new TestConfigurationExcludeFilter()))
+                // As arguments rather than default properties, so they win over application-test.yml.
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * Component scanning runs over the test classpath too; keep the slice
+     * configurations other tests import explicitly (the permit-all security
+     * chain, the fixed clock) out of the load-test application.
+     */
+    private static final class TestConfigurationExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other != null && getClass() == other.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.load;
+
+import org.example.support.StatementCountingConfig;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+/**
+ * Keeps the production security chain but swaps the Azure issuer for a
+ * decoder that trusts any bearer token and reads it as the caller's object
+ * id, so every request goes through the same user resolution and
+ * {@code AzureOAuth2UserFilter} work it does in production.
+ */
+@TestConfiguration
+@Import(StatementCountingConfig.class)
+class LoadTestConfig {
+
+    static String bearer(String externalId) {
+        return "Bearer " + externalId;
+    }
+
+    @Bean
+    @Primary
+    JwtDecoder loadTestJwtDecoder() {
+        return token -> Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .subject(token)
+                .claim("oid", token)
+                .claim("email", token + "@load.example.com")
+                .claim("name", "Load " + token)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    @Bean
+    StatementCountingFilter statementCountingFilter() {
+        return new StatementCountingFilter();
+    }
+
+    @Bean
+    FilterRegistrationBean<StatementCountingFilter> statementCountingFilterRegistration(StatementCountingFilter filter) {
+        FilterRegistrationBean<StatementCountingFilter> registration = new FilterRegistrationBean<>(filter);
+        // Ahead of Spring Security, so the user lookups done while authenticating are counted too.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
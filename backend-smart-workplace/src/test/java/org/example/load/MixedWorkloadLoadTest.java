@@ -0,0 +1,109 @@
+package org.example.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Production-shaped load against a locally started application: seeds
+ * synthetic users, bookings and notifications, then drives a weighted mix of
+ * booking, cancel, upcoming and location calls and reports throughput,
+ * latency percentiles and SQL statements per request for each endpoint. Run
+ * with {@code ./gradlew loadHarness}; besides the {@link ThreadModeLoadTest}
+ * settings it takes {@code -Dload.users}, {@code -Dload.bookingsPerUser},
+ * {@code -Dload.notificationsPerUser}, {@code -Dload.seed},
+ * {@code -Dload.virtualThreads} and {@code -Dload.mix}, e.g.
+ * {@code book=30,cancel=10,upcoming=40,location=20}.
+ */
+@Tag("load")
+class MixedWorkloadLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5));
+    private static final int USERS = Integer.getInteger("load.users", 2000);
+    private static final int BOOKINGS_PER_USER = Integer.getInteger("load.bookingsPerUser", 20);
+    private static final int NOTIFICATIONS_PER_USER = Integer.getInteger("load.notificationsPerUser", 30);
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final boolean VIRTUAL_THREADS = Boolean.parseBoolean(System.getProperty("load.virtualThreads", "true"));
+    private static final String MIX = System.getProperty("load.mix", "book=30,cancel=10,upcoming=40,location=20");
+    private static final int BOOKABLE_DAYS = 40;
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        List<LoadGenerator.Result> results = new ArrayList<>();
+        try (ConfigurableApplicationContext context = LoadTestApplication.start(VIRTUAL_THREADS)) {
+            SyntheticDataGenerator.Dataset data = new SyntheticDataGenerator(context.getBean(JdbcTemplate.class), SEED)
+                    .generate(USERS, BOOKINGS_PER_USER, NOTIFICATIONS_PER_USER, BOOKABLE_DAYS);
+            LoadRequests requests = new LoadRequests(LoadTestApplication.port(context));
+            Map<String, String> paths = new LinkedHashMap<>();
+            List<LoadGenerator.Operation> mix = new ArrayList<>();
+            parseMix(MIX).forEach((name, weight) -> {
+                paths.put(name, path(name));
+                mix.add(new LoadGenerator.Operation(name, weight, operation(name, requests, data)));
+            });
+
+            StatementCountingFilter statements = context.getBean(StatementCountingFilter.class);
+            statements.reset();
+            for (LoadGenerator.Result result : new LoadGenerator().run(CONCURRENCY, WARMUP, DURATION, mix)) {
+                results.add(result.withStatementsPerRequest(
+                        statements.totals("POST", paths.get(result.name())).perRequest()));
+            }
+        }
+
+        System.out.printf("%n%d users, %d clients on %s threads, %ds measured after %ds warm-up, mix %s%n",
+                USERS, CONCURRENCY, VIRTUAL_THREADS ? "virtual" : "platform",
+                DURATION.toSeconds(), WARMUP.toSeconds(), MIX);
+        results.forEach(System.out::println);
+        assertTrue(results.stream().allMatch(result -> result.requests() > 0));
+    }
+
+    private static LinkedHashMap<String, Integer> parseMix(String mix) {
+        LinkedHashMap<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        return weights;
+    }
+
+    private static String path(String name) {
+        return switch (name) {
+            case "book" -> LoadRequests.BOOK_SINGLE;
+            case "cancel" -> LoadRequests.CANCEL;
+            case "upcoming" -> LoadRequests.UPCOMING;
+            case "location" -> LoadRequests.LOCATION_UPDATE;
+            default -> throw new IllegalArgumentException("Unknown operation in load.mix: " + name);
+        };
+    }
+
+    private static IntFunction<HttpRequest> operation(
+            String name, LoadRequests requests, SyntheticDataGenerator.Dataset data) {
+        List<String> users = data.externalIds();
+        List<LocalDate> days = data.bookableDays();
+        return switch (name) {
+            // Users first, then days: most bookings are new, the rest hit the seeded ones.
+            case "book" -> n -> requests.bookSingle(users.get(n % users.size()), days.get((n / users.size()) % days.size()));
+            // Strided through the same grid, so cancels land on seeded and freshly booked days alike.
+            case "cancel" -> n -> requests.cancel(users.get((n * 7) % users.size()), days.get((n * 13) % days.size()));
+            case "upcoming" -> n -> requests.upcoming(users.get(n % users.size()));
+            case "location" -> n -> requests.locationUpdate(users.get(n % users.size()), n, users.size());
+            default -> throw new IllegalArgumentException("Unknown operation in load.mix: " + name);
+        };
+    }
+}
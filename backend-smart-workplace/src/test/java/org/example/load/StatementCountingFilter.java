@@ -0,0 +1,55 @@
+package org.example.load;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.support.SqlStatementCounter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totals the SQL statements each {@code METHOD path} prepares while it is
+ * being served. Work handed to other threads that outlive the request (the
+ * location history flusher, after-commit SSE sends) is not attributed to it.
+ */
+class StatementCountingFilter extends OncePerRequestFilter {
+
+    record Totals(long requests, long statements) {
+
+        double perRequest() {
+            return requests == 0 ? Double.NaN : (double) statements / requests;
+        }
+    }
+
+    private final Map<String, LongAdder[]> totals = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Recording recording = SqlStatementCounter.record();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recording.close();
+            LongAdder[] endpoint = totals.computeIfAbsent(
+                    request.getMethod() + " " + request.getRequestURI(),
+                    key -> new LongAdder[]{new LongAdder(), new LongAdder()});
+            endpoint[0].increment();
+            endpoint[1].add(recording.statements());
+        }
+    }
+
+    Totals totals(String method, String path) {
+        LongAdder[] endpoint = totals.get(method + " " + path);
+        return endpoint == null ? new Totals(0, 0) : new Totals(endpoint[0].sum(), endpoint[1].sum());
+    }
+
+    void reset() {
+        totals.clear();
+    }
+}
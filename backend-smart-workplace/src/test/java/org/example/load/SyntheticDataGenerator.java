@@ -0,0 +1,140 @@
+package org.example.load;
+
+import org.example.entity.BookingStatus;
+import org.example.entity.NotificationType;
+import org.example.entity.Role;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a reproducible data set for the load tests straight through JDBC:
+ * users with an {@code external_id} the test decoder accepts as a token, a
+ * booking history over past and upcoming working days, and an inbox of sent
+ * notifications, part of them already read. The same seed gives the same
+ * distribution of rows, so runs compare like with like.
+ */
+class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final NotificationType[] NOTIFICATION_TYPES = NotificationType.values();
+
+    record Dataset(List<String> externalIds, List<Long> userIds, List<LocalDate> bookableDays) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    SyntheticDataGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param bookingsPerUser      booked working days per user, half in the past
+     *                             and half within {@code bookableDays}
+     * @param notificationsPerUser sent notifications per user
+     * @param bookableDays         upcoming working days the workload may book or cancel
+     */
+    Dataset generate(int users, int bookingsPerUser, int notificationsPerUser, int bookableDays) {
+        String run = Long.toString(System.nanoTime(), 36);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> userRows = new ArrayList<>(users);
+        List<String> externalIds = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String externalId = "load-" + run + "-" + i;
+            externalIds.add(externalId);
+            userRows.add(new Object[]{
+                    "Load " + externalId,
+                    externalId + "@load.example.com",
+                    Role.USER.name(),
+                    Timestamp.valueOf(now.minusDays(random.nextInt(365))),
+                    externalId
+            });
+        }
+        batch("INSERT INTO users (name, email, role, created_at, external_id) VALUES (?, ?, ?, ?, ?)", userRows);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE external_id LIKE ? ORDER BY id", Long.class, "load-" + run + "-%");
+
+        List<LocalDate> past = workingDays(LocalDate.now().minusDays(1), -bookingsPerUser * 3);
+        // Starts two days out so the cutoff for tomorrow never applies.
+        List<LocalDate> upcoming = workingDays(LocalDate.now().plusDays(2), bookableDays);
+
+        List<Object[]> bookingRows = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (LocalDate day : pick(past, bookingsPerUser / 2)) {
+                bookingRows.add(booking(userId, day, random.nextInt(10) == 0 ? BookingStatus.DEFAULT : BookingStatus.BOOKED));
+            }
+            for (LocalDate day : pick(upcoming, bookingsPerUser - bookingsPerUser / 2)) {
+                bookingRows.add(booking(userId, day, random.nextInt(5) == 0 ? BookingStatus.CANCELLED : BookingStatus.BOOKED));
+            }
+        }
+        batch("INSERT INTO meal_bookings (user_id, booking_date, booked_at, status, available_for_lunch) "
+                + "VALUES (?, ?, ?, ?, ?)", bookingRows);
+
+        List<Object[]> notificationRows = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (int n = 0; n < notificationsPerUser; n++) {
+                LocalDateTime sentAt = now.minusMinutes(random.nextInt(60 * 24 * 60));
+                notificationRows.add(new Object[]{
+                        userId,
+                        "Synthetic notification " + n,
+                        "Generated for load testing.",
+                        NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)].name(),
+                        true,
+                        Timestamp.valueOf(sentAt),
+                        Timestamp.valueOf(sentAt),
+                        random.nextInt(3) == 0 ? null : Timestamp.valueOf(sentAt.plusMinutes(30))
+                });
+            }
+        }
+        batch("INSERT INTO notifications (user_id, title, message, type, sent, scheduled_at, sent_at, read_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", notificationRows);
+
+        return new Dataset(externalIds, userIds, upcoming);
+    }
+
+    private Object[] booking(Long userId, LocalDate day, BookingStatus status) {
+        return new Object[]{
+                userId,
+                day,
+                Timestamp.valueOf(day.minusDays(1 + random.nextInt(5)).atTime(10, 0)),
+                status.name(),
+                true
+        };
+    }
+
+    private List<LocalDate> pick(List<LocalDate> days, int count) {
+        List<LocalDate> shuffled = new ArrayList<>(days);
+        Collections.shuffle(shuffled, random);
+        return shuffled.subList(0, Math.min(count, shuffled.size()));
+    }
+
+    /** {@code count} working days starting at {@code from}, walking backwards when negative. */
+    static List<LocalDate> workingDays(LocalDate from, int count) {
+        int step = count < 0 ? -1 : 1;
+        List<LocalDate> days = new ArrayList<>();
+        LocalDate day = from;
+        while (days.size() < Math.abs(count)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+            day = day.plusDays(step);
+        }
+        return days;
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
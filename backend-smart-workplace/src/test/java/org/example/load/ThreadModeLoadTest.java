@@ -0,0 +1,64 @@
+package org.example.load;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares throughput and latency of the two hottest endpoints with Tomcat on
+ * platform threads and on virtual threads. Run with {@code ./gradlew loadTest};
+ * tune with {@code -Dload.concurrency}, {@code -Dload.seconds},
+ * {@code -Dload.warmupSeconds}, and point {@code -Dload.jdbcUrl} (plus
+ * {@code -Dload.jdbcUser}/{@code -Dload.jdbcPassword}) at PostgreSQL to
+ * measure against real JDBC latency instead of in-memory H2.
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5));
+    private static final int USERS = 500;
+    private static final int BOOKABLE_DAYS = 40;
+
+    @Test
+    void compareThreadModes() throws Exception {
+        List<LoadGenerator.Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = LoadTestApplication.start(virtualThreads)) {
+                SyntheticDataGenerator.Dataset data = new SyntheticDataGenerator(context.getBean(JdbcTemplate.class), 42)
+                        .generate(USERS, 0, 0, BOOKABLE_DAYS);
+                LoadRequests requests = new LoadRequests(LoadTestApplication.port(context));
+                results.add(runLocation(mode, requests, data.externalIds()));
+                results.add(runBooking(mode, requests, data.externalIds(), data.bookableDays()));
+            }
+        }
+
+        System.out.printf("%n%d clients, %ds measured after %ds warm-up%n",
+                CONCURRENCY, DURATION.toSeconds(), WARMUP.toSeconds());
+        results.forEach(System.out::println);
+        assertTrue(results.stream().allMatch(result -> result.requests() > 0));
+    }
+
+    private static LoadGenerator.Result runLocation(String mode, LoadRequests requests, List<String> users)
+            throws Exception {
+        return new LoadGenerator().run("location.update/" + mode, CONCURRENCY, WARMUP, DURATION,
+                n -> requests.locationUpdate(users.get(n % users.size()), n, users.size()));
+    }
+
+    private static LoadGenerator.Result runBooking(String mode, LoadRequests requests, List<String> users,
+                                                   List<LocalDate> days) throws Exception {
+        // Walks users first, then days, so most requests create a booking and repeats hit the duplicate check.
+        return new LoadGenerator().run("meals.book-single/" + mode, CONCURRENCY, WARMUP, DURATION,
+                n -> requests.bookSingle(users.get(n % users.size()), days.get((n / users.size()) % days.size())));
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.dto.BookingSummaryDTO;
+import org.example.entity.BookingStatus;
+import org.example.service.BookingPolicy;
+import org.example.service.BookingSummaryService;
+import org.example.service.EmailService;
+import org.example.service.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HrBookingSummarySchedulerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 19);
+
+    @Mock
+    private BookingSummaryService bookingSummaryService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private BookingPolicy bookingPolicy;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HrBookingSummaryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new HrBookingSummaryScheduler(bookingSummaryService, emailService, bookingPolicy,
+                new FixedClockConfig().testClock(), new SchedulerMetrics(meterRegistry), schedulerLockService);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).when(schedulerLockService).runLocked(any(), any(), any(), any());
+        when(bookingPolicy.isWorkingDay(MONDAY)).thenReturn(true);
+        when(bookingSummaryService.buildSummary(MONDAY)).thenReturn(summary());
+    }
+
+    @Test
+    void sentSummary_CountsRowsAndNoFailure() {
+        when(emailService.sendBookingSummaryEmail(any())).thenReturn(CompletableFuture.completedFuture("message-id"));
+
+        scheduler.sendDailyBookingSummary();
+
+        assertEquals(3, meterRegistry.get("scheduler.rows").tag("job", "hr_booking_summary").counter().count());
+        assertNull(meterRegistry.find("scheduler.failures").counter());
+    }
+
+    @Test
+    void failedSend_IsReportedAsFailure() {
+        when(emailService.sendBookingSummaryEmail(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("SES unavailable")));
+
+        scheduler.sendDailyBookingSummary();
+
+        assertEquals(1, meterRegistry.get("scheduler.failures").tag("job", "hr_booking_summary").counter().count());
+        assertEquals(0, meterRegistry.get("scheduler.rows").tag("job", "hr_booking_summary").counter().count());
+    }
+
+    private static BookingSummaryDTO summary() {
+        BookingSummaryDTO summary = new BookingSummaryDTO();
+        summary.setStatusCounts(Map.of(BookingStatus.BOOKED, 2, BookingStatus.CANCELLED, 1));
+        return summary;
+    }
+}
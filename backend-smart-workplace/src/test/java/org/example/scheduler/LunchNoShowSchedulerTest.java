@@ -0,0 +1,172 @@
+package org.example.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.config.MealBookingConfig;
+import org.example.config.OfficeLocationConfig;
+import org.example.config.TestSecurityConfig;
+import org.example.dto.LocationUpdateRequestDTO;
+import org.example.entity.BookingStatus;
+import org.example.entity.MealBooking;
+import org.example.entity.Role;
+import org.example.entity.User;
+import org.example.repository.MealBookingRepository;
+import org.example.repository.UserLocationRepository;
+import org.example.repository.UserRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.GeofenceTracker;
+import org.example.service.LocationHistoryService;
+import org.example.service.SchedulerLockService;
+import org.example.service.UserLocationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class LunchNoShowSchedulerTest {
+
+    private static final ZoneId IST = ZoneId.of("Asia/Kolkata");
+
+    @Autowired
+    private LunchNoShowScheduler lunchNoShowScheduler;
+
+    @Autowired
+    private MealBookingRepository mealBookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MealBookingConfig mealBookingConfig;
+
+    @Autowired
+    private BookingPolicy bookingPolicy;
+
+    @Autowired
+    private SchedulerMetrics schedulerMetrics;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+
+    @Autowired
+    private LocationHistoryService locationHistoryService;
+
+    @Autowired
+    private OfficeLocationConfig officeLocationConfig;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private LunchNoShowScheduler schedulerAt(LocalDateTime time) {
+        Clock clock = Clock.fixed(time.atZone(IST).toInstant(), IST);
+        return new LunchNoShowScheduler(mealBookingRepository, mealBookingConfig, bookingPolicy,
+                schedulerMetrics, schedulerLockService, clock);
+    }
+
+    private Long book(LocalDate date, BookingStatus status, boolean availableForLunch) {
+        String id = UUID.randomUUID().toString();
+        User user = userRepository.save(User.builder()
+                .name("No Show " + id)
+                .email(id + "@example.com")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return mealBookingRepository.save(MealBooking.builder()
+                .user(user)
+                .bookingDate(date)
+                .bookedAt(date.minusDays(2).atTime(10, 0))
+                .status(status)
+                .availableForLunch(availableForLunch)
+                .build()).getId();
+    }
+
+    private double duplicateFixes() {
+        Timer timer = meterRegistry.find("location.update").tag("decision", "duplicate_fix").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private BookingStatus statusOf(Long bookingId) {
+        return mealBookingRepository.findById(bookingId).orElseThrow().getStatus();
+    }
+
+    @Test
+    void sweepRunsAtLunchEnd() {
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        lunchNoShowScheduler.configureTasks(registrar);
+
+        assertEquals("0 0 15 * * *", registrar.getCronTaskList().get(0).getExpression());
+    }
+
+    @Test
+    void bookedButNeverEnteredIsMarkedDefault() {
+        LocalDate tuesday = LocalDate.of(2026, 1, 27);
+        Long noShow = book(tuesday, BookingStatus.BOOKED, false);
+        Long attended = book(tuesday, BookingStatus.BOOKED, true);
+        Long cancelled = book(tuesday, BookingStatus.CANCELLED, false);
+        Long tomorrow = book(tuesday.plusDays(1), BookingStatus.BOOKED, false);
+
+        schedulerAt(tuesday.atTime(15, 0)).markNoShows();
+
+        assertEquals(BookingStatus.DEFAULT, statusOf(noShow));
+        assertEquals(BookingStatus.BOOKED, statusOf(attended));
+        assertEquals(BookingStatus.CANCELLED, statusOf(cancelled));
+        assertEquals(BookingStatus.BOOKED, statusOf(tomorrow));
+    }
+
+    @Test
+    void stationaryUserOutsideIsMarkedDefault() {
+        LocalDate tuesday = LocalDate.of(2026, 1, 27);
+        Long booking = book(tuesday, BookingStatus.BOOKED, false);
+        Long userId = mealBookingRepository.findById(booking).orElseThrow().getUser().getId();
+        GeofenceTracker geofenceTracker = new GeofenceTracker(officeLocationConfig, eventPublisher);
+        LocationUpdateRequestDTO outside = LocationUpdateRequestDTO.builder()
+                .latitude(19.1)
+                .longitude(74.5)
+                .accuracy(10.0)
+                .build();
+
+        // Every ping after the first is a duplicate and filtered out by the tracker.
+        double duplicatesBefore = duplicateFixes();
+        for (int minute = 50; minute < 56; minute += 2) {
+            LocalDateTime time = tuesday.atTime(14, minute);
+            new UserLocationService(userLocationRepository, locationHistoryService, bookingPolicy, geofenceTracker,
+                    Clock.fixed(time.atZone(IST).toInstant(), IST), meterRegistry)
+                    .saveLocation(userId, outside);
+        }
+        assertEquals(2, duplicateFixes() - duplicatesBefore);
+        schedulerAt(tuesday.atTime(15, 0)).markNoShows();
+
+        assertEquals(BookingStatus.DEFAULT, statusOf(booking));
+    }
+
+    @Test
+    void nonWorkingDayIsSkipped() {
+        LocalDate saturday = LocalDate.of(2026, 1, 31);
+        Long booking = book(saturday, BookingStatus.BOOKED, false);
+
+        schedulerAt(saturday.atTime(15, 0)).markNoShows();
+
+        assertEquals(BookingStatus.BOOKED, statusOf(booking));
+    }
+}
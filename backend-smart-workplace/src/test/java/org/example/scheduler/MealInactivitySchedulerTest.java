@@ -3,11 +3,13 @@ package org.example.scheduler;
 import org.example.config.TestSecurityConfig;
 import org.example.entity.NotificationType;
 import org.example.entity.Role;
-import org.example.entity.User;
-import org.example.repository.MealBookingRepository;
-import org.example.repository.NotificationRepository;
+import org.example.repository.JobChunkRepository;
 import org.example.repository.UserRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.ChunkedJobRunner;
 import org.example.service.NotificationService;
+import org.example.service.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -18,9 +20,15 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.*;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+/**
+ * The context clock is fixed to Sunday 2026-01-18; the runs that should nudge
+ * use a scheduler clocked to Monday 2026-01-19 10:00 IST.
+ */
 @SpringBootTest(properties = "spring.task.scheduling.enabled=true")
 @Import({FixedClockConfig.class, TestSecurityConfig.class})
 @ActiveProfiles("test")
@@ -30,41 +38,58 @@ class MealInactivitySchedulerTest {
     private UserRepository userRepository;
 
     @MockBean
-    private MealBookingRepository mealBookingRepository;
+    private NotificationService notificationService;
 
-    @MockBean
-    private NotificationRepository notificationRepository;
+    @Autowired
+    private JobChunkRepository jobChunkRepository;
 
-    @MockBean
-    private NotificationService notificationService;
+    @Autowired
+    private MealInactivityScheduler sundayScheduler;
+
+    @Autowired
+    private BookingPolicy bookingPolicy;
+
+    @Autowired
+    private SchedulerMetrics schedulerMetrics;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
 
     @Autowired
+    private ChunkedJobRunner chunkedJobRunner;
+
+    @Autowired
+    private Clock clock;
+
     private MealInactivityScheduler inactivityScheduler;
 
-    private final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+    @BeforeEach
+    void setUp() {
+        jobChunkRepository.deleteAll();
+        inactivityScheduler = new MealInactivityScheduler(userRepository, notificationService, bookingPolicy,
+                schedulerMetrics, schedulerLockService, chunkedJobRunner, Clock.offset(clock, Duration.ofHours(16)));
+    }
 
-    @Test
-    void inactivityNudgeScheduledWhenUserHasNoBookingsInLast3Days() {
-        User user = new User(
-                1L,
-                "User",
-                "user@test.com",
-                Role.USER,
-                LocalDateTime.now()
-        );
-        when(userRepository.findAll()).thenReturn(List.of(user));
-        when(mealBookingRepository.existsByUserAndBookingDateBetween(
-                eq(user),
-                eq(LocalDate.of(2026, 1, 13)),
-                eq(LocalDate.of(2026, 1, 15))
-        )).thenReturn(false);
-        when(notificationRepository.existsByUserIdAndTypeAndScheduledAtBetween(
-                eq(1L),
+    private void stubInactiveUsers(List<Long> userIds) {
+        when(userRepository.findInactiveUnnotifiedIds(
+                eq(Long.MIN_VALUE),
+                eq(Long.MAX_VALUE),
+                eq(Role.USER),
+                eq(LocalDate.of(2026, 1, 14)),
+                eq(LocalDate.of(2026, 1, 18)),
                 eq(NotificationType.INACTIVITY_NUDGE),
                 any(LocalDateTime.class),
                 any(LocalDateTime.class)
-        )).thenReturn(false);
+        )).thenReturn(userIds);
+    }
+
+    @Test
+    void inactivityNudgeScheduledWhenUserHasNoBookingsInLast3Days() {
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L));
+        stubInactiveUsers(List.of(1L));
+
         inactivityScheduler.sendInactivityNudges();
+
         verify(notificationService, times(1)).schedule(
                 eq(1L),
                 eq("We miss you!"),
@@ -76,39 +101,57 @@ class MealInactivitySchedulerTest {
 
     @Test
     void inactivityNudgeNotScheduledWhenUserBookedRecently() {
-        User user = new User(
-                1L,
-                "User",
-                "u@test.com",
-                Role.USER,
-                LocalDateTime.now()
-        );
-        when(userRepository.findAll()).thenReturn(List.of(user));
-        when(mealBookingRepository.existsByUserAndBookingDateBetween(
-                any(), any(), any()
-        )).thenReturn(true);
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L));
+        stubInactiveUsers(List.of());
+
         inactivityScheduler.sendInactivityNudges();
+
         verifyNoInteractions(notificationService);
     }
 
     @Test
-    void inactivityNudgeNotScheduledForAdminUser() {
-        User admin = new User(
-                1L,
-                "Admin",
-                "a@test.com",
-                Role.ADMIN,
-                LocalDateTime.now()
-        );
-        when(userRepository.findAll()).thenReturn(List.of(admin));
+    void inactivityNudgeOnlyQueriesRegularUsers() {
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L));
+
         inactivityScheduler.sendInactivityNudges();
+
+        verify(userRepository).findInactiveUnnotifiedIds(
+                anyLong(), anyLong(), eq(Role.USER), any(), any(), any(), any(), any());
         verifyNoInteractions(notificationService);
     }
 
     @Test
     void inactivityNudgeNotScheduledWhenNoUsersExist() {
-        when(userRepository.findAll()).thenReturn(List.of());
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of());
+
+        inactivityScheduler.sendInactivityNudges();
+
+        verify(userRepository, never()).findInactiveUnnotifiedIds(
+                anyLong(), anyLong(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void inactivityNudgeNotRepeatedWhenRunFiresAgain() {
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L));
+        stubInactiveUsers(List.of(1L));
+
+        inactivityScheduler.sendInactivityNudges();
         inactivityScheduler.sendInactivityNudges();
+
+        verify(notificationService, times(1)).schedule(
+                eq(1L), any(), any(), eq(NotificationType.INACTIVITY_NUDGE), any(LocalDateTime.class));
+    }
+
+    @Test
+    void inactivityNudgeSkippedOnWeekends() {
+        when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L));
+        stubInactiveUsers(List.of(1L));
+
+        sundayScheduler.sendInactivityNudges();
+
+        verify(userRepository, never()).findInactiveUnnotifiedIds(
+                anyLong(), anyLong(), any(), any(), any(), any(), any(), any());
         verifyNoInteractions(notificationService);
     }
 }
@@ -0,0 +1,181 @@
+package org.example.scheduler;
+
+import org.example.config.TestSecurityConfig;
+import org.example.entity.Notification;
+import org.example.entity.NotificationType;
+import org.example.entity.Role;
+import org.example.entity.User;
+import org.example.repository.JobChunkRepository;
+import org.example.repository.NotificationRepository;
+import org.example.repository.UserRepository;
+import org.example.service.BookingPolicy;
+import org.example.service.BookingSummaryService;
+import org.example.service.ChunkedJobRunner;
+import org.example.service.EmailService;
+import org.example.service.NotificationService;
+import org.example.service.SchedulerLockService;
+import org.example.support.SqlStatementCounter;
+import org.example.support.StatementCountingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.example.support.SqlStatementCounter.assertAtMost;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Upper bounds on the SQL each scheduled job issues. Jobs that fan out per
+ * user may only grow by the writes they make for each user, never by a
+ * lookup per user. The clock is fixed to Sunday 2026-01-18 18:00 IST, inside
+ * the reminder window for Monday; the inactivity job, which skips weekends,
+ * runs on a copy clocked to Monday 10:00.
+ */
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import({FixedClockConfig.class, TestSecurityConfig.class, StatementCountingConfig.class})
+@ActiveProfiles("test")
+class SchedulerStatementCountTest {
+
+    // Lock, chunk bookkeeping and one id query per chunk; each notified user then costs a single insert.
+    private static final int REMINDER_FIXED = 19;
+    private static final int INACTIVITY_FIXED = 17;
+    // Lock and the pending query; each sent notification then costs a single update.
+    private static final int SENDER_FIXED = 3;
+
+    @Autowired
+    private MealReminderScheduler mealReminderScheduler;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ChunkedJobRunner chunkedJobRunner;
+
+    @Autowired
+    private NotificationSenderScheduler notificationSenderScheduler;
+
+    @Autowired
+    private NotificationArchiveScheduler notificationArchiveScheduler;
+
+    @Autowired
+    private LocationHistoryMaintenanceScheduler locationHistoryMaintenanceScheduler;
+
+    @Autowired
+    private BookingSummaryService bookingSummaryService;
+
+    @Autowired
+    private BookingPolicy bookingPolicy;
+
+    @Autowired
+    private SchedulerMetrics schedulerMetrics;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private JobChunkRepository jobChunkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        jobChunkRepository.deleteAll();
+        for (int i = 0; i < 3; i++) {
+            String id = UUID.randomUUID().toString();
+            userRepository.save(User.builder()
+                    .name("Statement Count " + id)
+                    .email(id + "@example.com")
+                    .role(Role.USER)
+                    .createdAt(LocalDateTime.now(clock).minusDays(30))
+                    .build());
+        }
+    }
+
+    private static void assertPerUserBound(String job, int statements, int fixed, long rows) {
+        assertTrue(statements <= fixed + rows,
+                () -> job + " issued " + statements + " SQL statements for " + rows + " rows, expected at most "
+                        + (fixed + rows));
+    }
+
+    @Test
+    void mealReminderScheduler() {
+        long before = notificationRepository.count();
+        int statements = SqlStatementCounter.count(mealReminderScheduler::sendMealBookingReminders);
+        long reminded = notificationRepository.count() - before;
+
+        assertTrue(reminded >= 3);
+        assertPerUserBound("MealReminderScheduler", statements, REMINDER_FIXED, reminded);
+    }
+
+    @Test
+    void mealInactivityScheduler() {
+        long before = notificationRepository.count();
+        MealInactivityScheduler mealInactivityScheduler = new MealInactivityScheduler(userRepository,
+                notificationService, bookingPolicy, schedulerMetrics, schedulerLockService, chunkedJobRunner,
+                Clock.offset(clock, Duration.ofHours(16)));
+        int statements = SqlStatementCounter.count(mealInactivityScheduler::sendInactivityNudges);
+        long nudged = notificationRepository.count() - before;
+
+        assertTrue(nudged >= 3);
+        assertPerUserBound("MealInactivityScheduler", statements, INACTIVITY_FIXED, nudged);
+    }
+
+    @Test
+    void notificationSenderScheduler() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int i = 0; i < 3; i++) {
+            notificationRepository.save(Notification.builder()
+                    .userId(1L)
+                    .title("Meal Reminder")
+                    .message("Book your meal")
+                    .type(NotificationType.MEAL_REMINDER)
+                    .scheduledAt(now.minusMinutes(5))
+                    .sent(false)
+                    .build());
+        }
+        int pending = notificationRepository.findBySentFalseAndScheduledAtBefore(now).size();
+
+        int statements = SqlStatementCounter.count(notificationSenderScheduler::sendPendingNotifications);
+        assertTrue(pending >= 3);
+        assertPerUserBound("NotificationSenderScheduler", statements, SENDER_FIXED, pending);
+    }
+
+    @Test
+    void notificationArchiveScheduler() {
+        assertAtMost(6, "NotificationArchiveScheduler", notificationArchiveScheduler::archiveNotifications);
+    }
+
+    @Test
+    void locationHistoryMaintenanceScheduler() {
+        // Includes the idempotent create table and create index.
+        assertAtMost(8, "LocationHistoryMaintenanceScheduler", locationHistoryMaintenanceScheduler::maintainPartitions);
+    }
+
+    @Test
+    void hrBookingSummaryScheduler() {
+        EmailService emailService = mock(EmailService.class);
+        when(emailService.sendBookingSummaryEmail(any())).thenReturn(CompletableFuture.completedFuture("message-id"));
+        HrBookingSummaryScheduler scheduler = new HrBookingSummaryScheduler(
+                bookingSummaryService, emailService, bookingPolicy, clock, schedulerMetrics, schedulerLockService);
+
+        assertAtMost(6, "HrBookingSummaryScheduler", scheduler::sendDailyBookingSummary);
+    }
+}
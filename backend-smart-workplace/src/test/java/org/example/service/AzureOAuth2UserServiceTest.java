@@ -0,0 +1,100 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.config.TestSecurityConfig;
+import org.example.entity.User;
+import org.example.repository.UserRepository;
+import org.example.scheduler.FixedClockConfig;
+import org.example.support.StatementCountingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.example.support.SqlStatementCounter.assertAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Users resolved from the token on every request come from the second-level
+ * and query caches; only real changes reach the database.
+ */
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import({FixedClockConfig.class, TestSecurityConfig.class, StatementCountingConfig.class})
+@ActiveProfiles("test")
+class AzureOAuth2UserServiceTest {
+
+    // TestSecurityConfig puts a mock in front of the real service.
+    @Autowired
+    @Qualifier("azureOAuth2UserService")
+    private AzureOAuth2UserService azureOAuth2UserService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String externalId;
+
+    @BeforeEach
+    void setUp() {
+        externalId = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(String name) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(externalId)
+                .claim("oid", externalId)
+                .claim("email", externalId + "@example.com")
+                .claim("name", name)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @Test
+    void repeatedLookupIsServedFromCache() {
+        authenticate("Cached User");
+        Long id = azureOAuth2UserService.getOrCreateAuthenticatedUser().getId();
+        azureOAuth2UserService.getOrCreateAuthenticatedUser();
+
+        assertAtMost(0, "getOrCreateAuthenticatedUser (cached)", azureOAuth2UserService::getOrCreateAuthenticatedUser);
+        assertAtMost(0, "findById (cached)", () -> userRepository.findById(id).orElseThrow());
+        assertTrue(meterRegistry.get("hibernate.cache.query.requests")
+                .tag("result", "hit").functionCounter().count() > 0);
+        assertTrue(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "users").tag("result", "hit").functionCounter().count() > 0);
+    }
+
+    @Test
+    void renamedUserIsNotServedStale() {
+        authenticate("Old Name");
+        Long id = azureOAuth2UserService.getOrCreateAuthenticatedUser().getId();
+        azureOAuth2UserService.getOrCreateAuthenticatedUser();
+
+        authenticate("New Name");
+        azureOAuth2UserService.getOrCreateAuthenticatedUser();
+
+        User cached = userRepository.findByExternalId(externalId).orElseThrow();
+        assertEquals("New Name", cached.getName());
+        assertEquals("New Name", userRepository.findById(id).orElseThrow().getName());
+    }
+}
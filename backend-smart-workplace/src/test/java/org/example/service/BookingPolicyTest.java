@@ -0,0 +1,108 @@
+package org.example.service;
+
+import org.example.config.MealBookingConfig;
+import org.example.scheduler.FixedClockConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingPolicyTest {
+
+    // Indexes 2025-2028, so 2040 dates take the fallback path.
+    private final Clock clock = new FixedClockConfig().testClock();
+    private final LocalDate monday = LocalDate.of(2026, 1, 26);
+
+    @Test
+    void defaultPolicy_MatchesLegacyRules() {
+        BookingPolicy policy = new BookingPolicy(new MealBookingConfig(), clock);
+
+        assertEquals("10 PM", policy.getCutoffLabel());
+        assertFalse(policy.isAfterCutoff(LocalTime.of(22, 0)));
+        assertTrue(policy.isAfterCutoff(LocalTime.of(22, 0, 1)));
+
+        assertTrue(policy.isWeekend(LocalDate.of(2026, 1, 24)));
+        assertTrue(policy.isWeekend(LocalDate.of(2026, 1, 25)));
+        assertFalse(policy.isWeekend(monday));
+
+        assertTrue(policy.isWithinLunchWindow(LocalTime.of(12, 0)));
+        assertTrue(policy.isWithinLunchWindow(LocalTime.of(14, 30)));
+        assertFalse(policy.isWithinLunchWindow(LocalTime.of(14, 31)));
+        assertTrue(policy.isAfterLunchWindow(LocalTime.of(14, 31)));
+    }
+
+    @Test
+    void isClosedForChanges_OnlyAppliesToTomorrowAfterCutoff() {
+        BookingPolicy policy = new BookingPolicy(new MealBookingConfig(), clock);
+        LocalTime lateEvening = LocalTime.of(22, 30);
+
+        assertTrue(policy.isClosedForChanges(monday.plusDays(1), monday, lateEvening));
+        assertFalse(policy.isClosedForChanges(monday.plusDays(2), monday, lateEvening));
+        assertFalse(policy.isClosedForChanges(monday, monday, lateEvening));
+        assertFalse(policy.isClosedForChanges(monday.plusDays(1), monday, LocalTime.of(21, 59)));
+    }
+
+    @Test
+    void customConfig_IsCompiledIntoPolicy() {
+        MealBookingConfig config = new MealBookingConfig();
+        config.setCutoffTime(LocalTime.of(20, 30));
+        config.setWeekendDays(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY));
+        config.getLunch().setEndTime(LocalTime.of(15, 0));
+
+        BookingPolicy policy = new BookingPolicy(config, clock);
+
+        assertEquals("8:30 PM", policy.getCutoffLabel());
+        assertEquals("Friday and Saturday", policy.getWeekendLabel());
+        assertTrue(policy.isAfterCutoff(LocalTime.of(21, 0)));
+        assertTrue(policy.isWeekend(LocalDate.of(2026, 1, 30)));
+        assertFalse(policy.isWeekend(LocalDate.of(2026, 1, 25)));
+        assertTrue(policy.isWithinLunchWindow(LocalTime.of(14, 45)));
+    }
+
+    @Test
+    void holidays_AreExcludedFromWorkingDays() {
+        MealBookingConfig config = new MealBookingConfig();
+        LocalDate republicDay = monday;
+        config.setHolidays(List.of(republicDay));
+
+        BookingPolicy policy = new BookingPolicy(config, clock);
+
+        assertTrue(policy.isHoliday(republicDay));
+        assertFalse(policy.isWorkingDay(republicDay));
+        assertFalse(policy.isWorkingDay(LocalDate.of(2026, 1, 25)));
+        assertTrue(policy.isWorkingDay(monday.plusDays(1)));
+
+        assertEquals(
+                List.of(LocalDate.of(2026, 1, 23), LocalDate.of(2026, 1, 27), LocalDate.of(2026, 1, 28)),
+                policy.workingDaysBetween(LocalDate.of(2026, 1, 23), LocalDate.of(2026, 1, 28))
+        );
+        assertEquals(
+                List.of(LocalDate.of(2026, 1, 27), LocalDate.of(2026, 1, 28)),
+                policy.nextWorkingDays(LocalDate.of(2026, 1, 24), 2)
+        );
+        assertEquals(LocalDate.of(2026, 1, 22), policy.workingDaysBefore(LocalDate.of(2026, 1, 27), 2));
+    }
+
+    @Test
+    void workingDayQueries_OutsideIndexedYears_FallBackToRules() {
+        MealBookingConfig config = new MealBookingConfig();
+        LocalDate farHoliday = LocalDate.of(2040, 1, 2);
+        config.setHolidays(List.of(farHoliday));
+
+        BookingPolicy policy = new BookingPolicy(config, clock);
+
+        assertFalse(policy.isWorkingDay(farHoliday));
+        assertTrue(policy.isWorkingDay(LocalDate.of(2040, 1, 3)));
+        assertEquals(
+                List.of(LocalDate.of(2040, 1, 3), LocalDate.of(2040, 1, 4)),
+                policy.nextWorkingDays(LocalDate.of(2040, 1, 1), 2)
+        );
+        assertEquals(LocalDate.of(2039, 12, 30), policy.workingDaysBefore(LocalDate.of(2040, 1, 3), 1));
+    }
+}
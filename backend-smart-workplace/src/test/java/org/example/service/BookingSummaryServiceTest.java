@@ -0,0 +1,120 @@
+package org.example.service;
+
+import org.example.dto.BookingSummaryDTO;
+import org.example.dto.BookingSummaryRowDTO;
+import org.example.entity.BookingStatus;
+import org.example.repository.MealBookingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingSummaryServiceTest {
+
+    @Mock
+    private MealBookingRepository mealBookingRepository;
+
+    @InjectMocks
+    private BookingSummaryService bookingSummaryService;
+
+    private final LocalDate date = LocalDate.of(2026, 1, 27);
+
+    @Test
+    void buildSummary_CountsStatusesAndExportsAllRowsToCsv() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(mealBookingRepository.streamSummaryRowsByBookingDate(date)).thenReturn(Stream.of(
+                new BookingSummaryRowDTO("Asha", "asha@test.com", LocalDateTime.of(2026, 1, 26, 9, 15), BookingStatus.BOOKED),
+                new BookingSummaryRowDTO("=cmd(), \"Ops\"", "ben@test.com", LocalDateTime.of(2026, 1, 26, 10, 0), BookingStatus.BOOKED),
+                new BookingSummaryRowDTO("Chen", "chen@test.com", LocalDateTime.of(2026, 1, 26, 11, 0), BookingStatus.CANCELLED)
+        ).onClose(() -> closed.set(true)));
+
+        BookingSummaryDTO summary = bookingSummaryService.buildSummary(date);
+
+        assertEquals("Meal Booking Summary for 2026-01-27", summary.getSubject());
+        assertEquals(2, summary.getCount(BookingStatus.BOOKED));
+        assertEquals(1, summary.getCount(BookingStatus.CANCELLED));
+        assertEquals(0, summary.getCount(BookingStatus.MISSED));
+
+        assertTrue(summary.getHtmlBody().contains("<strong>Total Bookings:</strong> 2"));
+        assertFalse(summary.getHtmlBody().contains("asha@test.com"));
+        assertTrue(summary.getTextBody().contains("CANCELLED: 1"));
+
+        assertEquals("meal-bookings-2026-01-27.csv", summary.getAttachmentFileName());
+        assertEquals(
+                "Name,Email,Booked At,Status\r\n"
+                        + "Asha,asha@test.com,2026-01-26T09:15,BOOKED\r\n"
+                        + "\"'=cmd(), \"\"Ops\"\"\",ben@test.com,2026-01-26T10:00,BOOKED\r\n"
+                        + "Chen,chen@test.com,2026-01-26T11:00,CANCELLED\r\n",
+                csv(summary)
+        );
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void buildSummary_QuotesValuesStartingWithTabOrCarriageReturn() throws IOException {
+        when(mealBookingRepository.streamSummaryRowsByBookingDate(date)).thenReturn(Stream.of(
+                new BookingSummaryRowDTO("\t=1+1", "\r@x", LocalDateTime.of(2026, 1, 26, 9, 15), BookingStatus.BOOKED)
+        ));
+
+        BookingSummaryDTO summary = bookingSummaryService.buildSummary(date);
+
+        assertEquals(
+                "Name,Email,Booked At,Status\r\n"
+                        + "\"'\t=1+1\",\"'\r@x\",2026-01-26T09:15,BOOKED\r\n",
+                csv(summary)
+        );
+    }
+
+    @Test
+    void buildSummary_StreamFails_DeletesCsvFile() throws IOException {
+        try (Stream<Path> before = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            long csvFiles = before.filter(this::isSummaryCsv).count();
+            when(mealBookingRepository.streamSummaryRowsByBookingDate(date)).thenReturn(Stream.generate(() -> {
+                throw new IllegalStateException("connection lost");
+            }));
+
+            assertThrows(IllegalStateException.class, () -> bookingSummaryService.buildSummary(date));
+
+            try (Stream<Path> after = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+                assertEquals(csvFiles, after.filter(this::isSummaryCsv).count());
+            }
+        }
+    }
+
+    @Test
+    void buildSummary_NoRows_RendersEmptySummary() throws IOException {
+        when(mealBookingRepository.streamSummaryRowsByBookingDate(date)).thenReturn(Stream.empty());
+
+        BookingSummaryDTO summary = bookingSummaryService.buildSummary(date);
+
+        assertEquals(0, summary.getCount(BookingStatus.BOOKED));
+        assertTrue(summary.getHtmlBody().contains("No meals booked for this date."));
+        assertTrue(summary.getTextBody().contains("No meals booked for this date."));
+        assertEquals("Name,Email,Booked At,Status\r\n", csv(summary));
+    }
+
+    private boolean isSummaryCsv(Path file) {
+        return file.getFileName().toString().startsWith("meal-bookings-" + date + "-");
+    }
+
+    private static String csv(BookingSummaryDTO summary) throws IOException {
+        try {
+            return Files.readString(summary.getCsvAttachment());
+        } finally {
+            Files.delete(summary.getCsvAttachment());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.service;
+
+import org.example.config.ChunkedJobConfig;
+import org.example.config.TestSecurityConfig;
+import org.example.entity.JobChunk;
+import org.example.entity.JobChunkStatus;
+import org.example.repository.JobChunkRepository;
+import org.example.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class ChunkedJobRunnerTest {
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobChunkRepository jobChunkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-26T12:30:00Z"), ZoneOffset.UTC);
+
+    private ChunkedJobRunner runner(String owner) {
+        ChunkedJobConfig config = new ChunkedJobConfig();
+        config.setChunkSize(2);
+        config.setWorkers(3);
+        config.setClaimLease(Duration.ofMinutes(5));
+        config.setMaxAttempts(2);
+        return new ChunkedJobRunner(jobChunkRepository, userRepository, config, transactionManager, clock, owner);
+    }
+
+    private void stubUserIds() {
+        when(userRepository.findIdsAfter(eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 2L));
+        when(userRepository.findIdsAfter(eq(2L), any())).thenReturn(List.of(3L, 4L));
+        when(userRepository.findIdsAfter(eq(4L), any())).thenReturn(List.of(5L));
+    }
+
+    private List<JobChunk> chunks(String runKey) {
+        return jobChunkRepository.findAll().stream()
+                .filter(chunk -> chunk.getRunKey().equals(runKey))
+                .toList();
+    }
+
+    @Test
+    void run_PlansContiguousKeysetChunksAndProcessesEachOnce() {
+        stubUserIds();
+        String runKey = "test:" + UUID.randomUUID();
+        Set<Long> chunkStarts = ConcurrentHashMap.newKeySet();
+
+        int processed = runner("node-a").run(runKey, (from, to) -> {
+            assertTrue(chunkStarts.add(from));
+            return 1;
+        });
+
+        assertEquals(3, processed);
+        assertEquals(Set.of(Long.MIN_VALUE, 3L, 5L), chunkStarts);
+        List<JobChunk> chunks = chunks(runKey);
+        assertEquals(3, chunks.size());
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.getStatus() == JobChunkStatus.DONE));
+        assertTrue(chunks.stream().anyMatch(chunk -> chunk.getToUserId() == Long.MAX_VALUE));
+    }
+
+    @Test
+    void run_AfterFailure_ResumesOnlyUnfinishedChunks() {
+        stubUserIds();
+        String runKey = "test:" + UUID.randomUUID();
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        Set<Long> secondRun = ConcurrentHashMap.newKeySet();
+
+        int first = runner("node-a").run(runKey, (from, to) -> {
+            if (from == 3L && failOnce.getAndSet(false)) {
+                throw new IllegalStateException("boom");
+            }
+            return 1;
+        });
+        // The failed chunk went back to PENDING and was retried within the same run.
+        assertEquals(3, first);
+
+        int second = runner("node-b").run(runKey, (from, to) -> {
+            secondRun.add(from);
+            return 1;
+        });
+        assertEquals(0, second);
+        assertTrue(secondRun.isEmpty());
+    }
+
+    @Test
+    void run_PoisonChunk_IsParkedAsFailedAfterMaxAttempts() {
+        stubUserIds();
+        String runKey = "test:" + UUID.randomUUID();
+
+        int processed = runner("node-a").run(runKey, (from, to) -> {
+            if (from == 3L) {
+                throw new IllegalStateException("always fails");
+            }
+            return 1;
+        });
+
+        assertEquals(2, processed);
+        JobChunk failed = chunks(runKey).stream()
+                .filter(chunk -> chunk.getFromUserId() == 3L)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(JobChunkStatus.FAILED, failed.getStatus());
+        assertEquals(2, failed.getAttempts());
+    }
+}
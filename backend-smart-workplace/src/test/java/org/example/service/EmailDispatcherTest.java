@@ -0,0 +1,206 @@
+package org.example.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.config.AwsSesConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.ses.SesAsyncClient;
+import software.amazon.awssdk.services.ses.model.RawMessage;
+import software.amazon.awssdk.services.ses.model.SendRawEmailRequest;
+import software.amazon.awssdk.services.ses.model.SesException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the dispatcher against a local HTTP server that speaks the SES query protocol.
+ */
+class EmailDispatcherTest {
+
+    private HttpServer fakeSes;
+    private SesAsyncClient sesAsyncClient;
+    private EmailDispatcher dispatcher;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private volatile int throttleFirstRequests;
+    private volatile String errorCode;
+    private volatile int errorStatus = 400;
+    private volatile boolean dropConnection;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fakeSes = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        fakeSes.setExecutor(Executors.newCachedThreadPool());
+        fakeSes.createContext("/", this::handle);
+        fakeSes.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        if (sesAsyncClient != null) {
+            sesAsyncClient.close();
+        }
+        fakeSes.stop(0);
+    }
+
+    @Test
+    void sendRawEmail_ManySends_AllDeliveredWithinInFlightLimit() {
+        createDispatcher(1000, 4, 3);
+
+        List<CompletableFuture<String>> sends = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            sends.add(dispatcher.sendRawEmail(request()));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).orTimeout(20, TimeUnit.SECONDS).join();
+
+        assertEquals(40, requests.get());
+        assertTrue(maxObservedInFlight.get() <= 4, "in flight was " + maxObservedInFlight.get());
+        sends.forEach(send -> assertTrue(send.join().startsWith("message-")));
+    }
+
+    @Test
+    void sendRawEmail_RateLimited_SpacesSendsOut() {
+        createDispatcher(10, 10, 3);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> sends = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            sends.add(dispatcher.sendRawEmail(request()));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).orTimeout(20, TimeUnit.SECONDS).join();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 10 tokens of burst, then 5 more at 10/s
+        assertTrue(elapsedMillis >= 400, "finished in " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void sendRawEmail_Throttled_RetriesUntilAccepted() {
+        createDispatcher(1000, 4, 5);
+        throttleFirstRequests = 2;
+        errorCode = "Throttling";
+
+        String messageId = dispatcher.sendRawEmail(request()).orTimeout(20, TimeUnit.SECONDS).join();
+
+        assertEquals("message-3", messageId);
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void sendRawEmail_Rejected_FailsWithoutRetry() {
+        createDispatcher(1000, 4, 5);
+        throttleFirstRequests = 1;
+        errorCode = "MessageRejected";
+
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> dispatcher.sendRawEmail(request()).orTimeout(20, TimeUnit.SECONDS).join());
+
+        assertInstanceOf(SesException.class, error.getCause());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void sendRawEmail_ServiceUnavailable_RetriesUntilAccepted() {
+        createDispatcher(1000, 4, 5);
+        throttleFirstRequests = 1;
+        errorStatus = 503;
+        errorCode = "ServiceUnavailable";
+
+        String messageId = dispatcher.sendRawEmail(request()).orTimeout(20, TimeUnit.SECONDS).join();
+
+        assertEquals("message-2", messageId);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void sendRawEmail_ConnectionDropped_RetriesUntilAccepted() {
+        createDispatcher(1000, 4, 5);
+        throttleFirstRequests = 1;
+        dropConnection = true;
+
+        String messageId = dispatcher.sendRawEmail(request()).orTimeout(20, TimeUnit.SECONDS).join();
+
+        assertEquals("message-2", messageId);
+        assertEquals(2, requests.get());
+    }
+
+    private void createDispatcher(double maxSendRate, int maxInFlight, int maxAttempts) {
+        AwsSesConfig config = new AwsSesConfig();
+        config.setAccessKey("test");
+        config.setSecretKey("test");
+        config.setEndpoint("http://127.0.0.1:" + fakeSes.getAddress().getPort());
+        config.setMaxSendRate(maxSendRate);
+        config.setMaxInFlight(maxInFlight);
+        config.setMaxAttempts(maxAttempts);
+
+        sesAsyncClient = config.sesAsyncClient();
+        dispatcher = new EmailDispatcher(sesAsyncClient, config);
+    }
+
+    private static SendRawEmailRequest request() {
+        return SendRawEmailRequest.builder()
+                .rawMessage(RawMessage.builder()
+                        .data(SdkBytes.fromUtf8String("Subject: test\r\n\r\nbody"))
+                        .build())
+                .build();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxObservedInFlight.accumulateAndGet(current, Math::max);
+        try {
+            exchange.getRequestBody().readAllBytes();
+            int number = requests.incrementAndGet();
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+
+            if (number <= throttleFirstRequests && dropConnection) {
+                // Promise a body and hang up, as a reset connection looks to the client.
+                exchange.sendResponseHeaders(200, 1024);
+                exchange.close();
+            } else if (number <= throttleFirstRequests) {
+                respond(exchange, errorStatus, """
+                        <ErrorResponse xmlns="http://ses.amazonaws.com/doc/2010-12-01/">
+                          <Error><Type>Sender</Type><Code>%s</Code><Message>rejected by fake SES</Message></Error>
+                          <RequestId>request-%d</RequestId>
+                        </ErrorResponse>""".formatted(errorCode, number));
+            } else {
+                respond(exchange, 200, """
+                        <SendRawEmailResponse xmlns="http://ses.amazonaws.com/doc/2010-12-01/">
+                          <SendRawEmailResult><MessageId>message-%d</MessageId></SendRawEmailResult>
+                          <ResponseMetadata><RequestId>request-%d</RequestId></ResponseMetadata>
+                        </SendRawEmailResponse>""".formatted(number, number));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
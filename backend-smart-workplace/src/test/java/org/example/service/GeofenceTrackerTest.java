@@ -0,0 +1,123 @@
+package org.example.service;
+
+import org.example.config.OfficeLocationConfig;
+import org.example.event.GeofenceTransition;
+import org.example.event.GeofenceTransitionEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeofenceTrackerTest {
+
+    private static final double OFFICE_LAT = 18.5204;
+    private static final double OFFICE_LON = 73.8567;
+    // Roughly one meter of latitude, in degrees.
+    private static final double METER = 1 / 111_195.0;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private GeofenceTracker tracker;
+    private final LocalDateTime start = LocalDateTime.of(2026, 1, 26, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        OfficeLocationConfig office = new OfficeLocationConfig();
+        office.setLatitude(OFFICE_LAT);
+        office.setLongitude(OFFICE_LON);
+        office.setRadiusMeters(500);
+        office.setExitRadiusMeters(600);
+        office.setMaxAccuracyMeters(100);
+        office.setMinDwell(Duration.ofMinutes(2));
+        office.setDuplicateDistanceMeters(10);
+        office.setDuplicateWindow(Duration.ofMinutes(5));
+        tracker = new GeofenceTracker(office, eventPublisher);
+    }
+
+    private GeofenceTracker.Result fixAt(double metersNorth, Double accuracy, int minutes) {
+        return tracker.track(3L, OFFICE_LAT + metersNorth * METER, OFFICE_LON, accuracy, start.plusMinutes(minutes));
+    }
+
+    @Test
+    void entry_IsConfirmedOnlyAfterMinimumDwell() {
+        fixAt(100, null, 0);
+        fixAt(120, null, 1);
+        verifyNoInteractions(eventPublisher);
+        assertEquals(GeofenceTracker.Zone.OUTSIDE, tracker.currentZone(3L));
+
+        fixAt(140, null, 2);
+
+        ArgumentCaptor<GeofenceTransitionEvent> event = ArgumentCaptor.forClass(GeofenceTransitionEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(GeofenceTransition.ENTER, event.getValue().getTransition());
+        assertEquals(start, event.getValue().getOccurredAt());
+        assertEquals(GeofenceTracker.Zone.INSIDE, tracker.currentZone(3L));
+    }
+
+    @Test
+    void briefVisit_ShorterThanDwell_DoesNotEnter() {
+        fixAt(100, null, 0);
+        fixAt(2000, null, 1);
+        fixAt(100, null, 2);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void fixesBetweenEnterAndExitRadius_DoNotFlap() {
+        fixAt(100, null, 0);
+        fixAt(120, null, 2);
+        clearInvocations(eventPublisher);
+
+        fixAt(550, null, 3);
+        fixAt(480, null, 4);
+        fixAt(590, null, 5);
+        verifyNoInteractions(eventPublisher);
+
+        fixAt(700, null, 6);
+        ArgumentCaptor<GeofenceTransitionEvent> event = ArgumentCaptor.forClass(GeofenceTransitionEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(GeofenceTransition.EXIT, event.getValue().getTransition());
+        assertEquals(Duration.ofMinutes(6), event.getValue().getDwell());
+    }
+
+    @Test
+    void accuracyCircle_MustBeFullyInsideToEnter() {
+        fixAt(450, 80.0, 0);
+        fixAt(450, 80.0, 3);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void inaccurateFix_IsRejected() {
+        GeofenceTracker.Result result = fixAt(0, 150.0, 0);
+
+        assertEquals(GeofenceTracker.FixOutcome.INACCURATE, result.outcome());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void samePosition_IsDuplicateWithinWindow_ButStillConfirmsDwell() {
+        assertEquals(GeofenceTracker.FixOutcome.ACCEPTED, fixAt(0, 5.0, 0).outcome());
+        GeofenceTracker.Result repeat = fixAt(3, 5.0, 3);
+
+        assertEquals(GeofenceTracker.FixOutcome.DUPLICATE, repeat.outcome());
+        assertEquals(GeofenceTracker.Zone.INSIDE, repeat.zone());
+        verify(eventPublisher).publishEvent(any(GeofenceTransitionEvent.class));
+
+        assertEquals(GeofenceTracker.FixOutcome.ACCEPTED, fixAt(3, 5.0, 6).outcome());
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.service;
+
+import org.example.config.LocationHistoryConfig;
+import org.example.config.TestSecurityConfig;
+import org.example.dto.LocationFixDTO;
+import org.example.repository.LocationFixRepository;
+import org.example.scheduler.FixedClockConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class LocationHistoryServiceTest {
+
+    @Autowired
+    private LocationHistoryService locationHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Long userId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+
+    private LocationFixDTO fix(LocalDateTime recordedAt, double latitude) {
+        return LocationFixDTO.builder()
+                .userId(userId)
+                .latitude(latitude)
+                .longitude(73.8567)
+                .recordedAt(recordedAt)
+                .build();
+    }
+
+    @Test
+    void findHistory_ReturnsEveryFixForTheDayInOrder() {
+        LocalDate day = LocalDate.of(2026, 1, 26);
+        locationHistoryService.record(fix(day.atTime(13, 5), 18.52));
+        locationHistoryService.record(fix(day.atTime(12, 55), 18.51));
+        locationHistoryService.record(fix(day.atTime(13, 5), 18.52));
+        locationHistoryService.record(fix(day.plusDays(1).atTime(9, 0), 18.60));
+
+        List<LocationFixDTO> history = locationHistoryService.findHistory(userId, day);
+
+        assertEquals(3, history.size());
+        assertEquals(day.atTime(12, 55), history.get(0).getRecordedAt());
+        assertEquals(18.51, history.get(0).getLatitude());
+        assertEquals(day.atTime(13, 5), history.get(2).getRecordedAt());
+    }
+
+    @Test
+    void flush_InsertFails_KeepsBatchForNextFlush() {
+        LocationFixRepository repository = mock(LocationFixRepository.class);
+        LocationHistoryService service = new LocationHistoryService(
+                repository, new LocationHistoryConfig(), new FixedClockConfig().testClock());
+        LocalDate day = LocalDate.of(2026, 1, 26);
+        List<LocationFixDTO> written = new ArrayList<>();
+        doThrow(new TransientDataAccessResourceException("database down"))
+                .doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+                .when(repository).insertBatch(any());
+
+        service.record(fix(day.atTime(12, 55), 18.51));
+        service.record(fix(day.atTime(13, 5), 18.52));
+        assertThrows(TransientDataAccessResourceException.class, service::flush);
+
+        assertEquals(2, service.findHistory(userId, day).size());
+        assertEquals(2, service.flush());
+        assertEquals(List.of(day.atTime(12, 55), day.atTime(13, 5)),
+                written.stream().map(LocationFixDTO::getRecordedAt).toList());
+    }
+
+    @Test
+    void ensurePartitions_PartitionFails_WritesStillGoThrough() {
+        LocationFixRepository repository = mock(LocationFixRepository.class);
+        LocationHistoryService service = new LocationHistoryService(
+                repository, new LocationHistoryConfig(), new FixedClockConfig().testClock());
+        LocalDate day = LocalDate.of(2026, 1, 26);
+        doThrow(new DataIntegrityViolationException("default partition holds rows for this month"))
+                .when(repository).createPartition(any());
+
+        service.record(fix(day.atTime(12, 55), 18.51));
+
+        assertEquals(1, service.flush());
+        verify(repository).insertBatch(any());
+        service.findHistory(userId, day);
+        verify(repository, times(1)).createSchema();
+    }
+
+    @Test
+    void init_DoesNotTouchTheDatabase() {
+        LocationFixRepository repository = mock(LocationFixRepository.class);
+        LocationHistoryService service = new LocationHistoryService(
+                repository, new LocationHistoryConfig(), new FixedClockConfig().testClock());
+
+        service.init();
+
+        verifyNoInteractions(repository);
+        service.shutdown();
+    }
+
+    @Test
+    void purgeExpired_RemovesFixesOlderThanRetention() {
+        LocalDateTime expired = LocalDateTime.now().minusYears(2);
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+        locationHistoryService.record(fix(expired, 18.50));
+        locationHistoryService.record(fix(recent, 18.52));
+        locationHistoryService.flush();
+
+        assertTrue(locationHistoryService.purgeExpired() >= 1);
+
+        Integer remaining = jdbcTemplate.queryForObject(
+                "select count(*) from location_fixes where user_id = ?", Integer.class, userId);
+        assertEquals(1, remaining);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.MealBookingConfig;
+import org.example.entity.BookingStatus;
+import org.example.entity.MealBooking;
+import org.example.entity.User;
+import org.example.event.GeofenceTransition;
+import org.example.event.GeofenceTransitionEvent;
+import org.example.repository.MealBookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LunchAttendanceListenerTest {
+
+    @Mock
+    private MealBookingRepository mealBookingRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LunchAttendanceListener listener;
+    private MealBooking booking;
+    private final LocalDate monday = LocalDate.of(2026, 1, 26);
+    private final User user = User.builder().id(3L).build();
+
+    @BeforeEach
+    void setUp() {
+        listener = new LunchAttendanceListener(
+                mealBookingRepository,
+                new BookingPolicy(new MealBookingConfig(), Clock.systemDefaultZone()),
+                meterRegistry
+        );
+        booking = MealBooking.builder()
+                .id(1L)
+                .user(user)
+                .bookingDate(monday)
+                .status(BookingStatus.BOOKED)
+                .availableForLunch(false)
+                .build();
+    }
+
+    private void stubBooking() {
+        when(mealBookingRepository.findByUserIdAndBookingDate(3L, monday)).thenReturn(Optional.of(booking));
+    }
+
+    @Test
+    void enterBeforeLunchEnds_MarksAvailable() {
+        stubBooking();
+
+        listener.onGeofenceTransition(new GeofenceTransitionEvent(
+                3L, GeofenceTransition.ENTER, monday.atTime(9, 30), Duration.ZERO));
+
+        assertTrue(booking.getAvailableForLunch());
+        verify(mealBookingRepository).save(booking);
+    }
+
+    @Test
+    void exitBeforeLunchStarts_ClearsAvailability() {
+        booking.setAvailableForLunch(true);
+        stubBooking();
+
+        listener.onGeofenceTransition(new GeofenceTransitionEvent(
+                3L, GeofenceTransition.EXIT, monday.atTime(11, 0), Duration.ofHours(2)));
+
+        assertFalse(booking.getAvailableForLunch());
+        verify(mealBookingRepository).save(booking);
+        assertEquals(1, meterRegistry.get("geofence.dwell").timer().count());
+    }
+
+    @Test
+    void exitDuringLunch_KeepsAvailability() {
+        booking.setAvailableForLunch(true);
+
+        listener.onGeofenceTransition(new GeofenceTransitionEvent(
+                3L, GeofenceTransition.EXIT, monday.atTime(13, 0), Duration.ofHours(1)));
+
+        verifyNoInteractions(mealBookingRepository);
+        assertTrue(booking.getAvailableForLunch());
+    }
+
+    @Test
+    void enterAfterLunch_IsIgnored() {
+        listener.onGeofenceTransition(new GeofenceTransitionEvent(
+                3L, GeofenceTransition.ENTER, monday.atTime(16, 0), Duration.ZERO));
+
+        verifyNoInteractions(mealBookingRepository);
+    }
+
+    @Test
+    void enterWithCancelledBooking_DoesNotSave() {
+        booking.setStatus(BookingStatus.CANCELLED);
+        stubBooking();
+
+        listener.onGeofenceTransition(new GeofenceTransitionEvent(
+                3L, GeofenceTransition.ENTER, monday.atTime(12, 30), Duration.ZERO));
+
+        verify(mealBookingRepository, never()).save(any());
+    }
+}
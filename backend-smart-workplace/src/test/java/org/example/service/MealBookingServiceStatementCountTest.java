@@ -0,0 +1,122 @@
+package org.example.service;
+
+import org.example.config.TestSecurityConfig;
+import org.example.dto.CancelMealRequestDTO;
+import org.example.entity.BookingStatus;
+import org.example.entity.MealBooking;
+import org.example.entity.Role;
+import org.example.entity.User;
+import org.example.repository.MealBookingRepository;
+import org.example.repository.UserRepository;
+import org.example.scheduler.FixedClockConfig;
+import org.example.support.StatementCountingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.example.support.SqlStatementCounter.assertAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Upper bounds on the SQL each booking operation issues, so an N+1 creeping
+ * into one of them fails the build. The clock is fixed to Sunday 2026-01-18
+ * 18:00 IST; the week after is open for booking.
+ */
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import({FixedClockConfig.class, TestSecurityConfig.class, StatementCountingConfig.class})
+@ActiveProfiles("test")
+class MealBookingServiceStatementCountTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 26);
+
+    @Autowired
+    private MealBookingService mealBookingService;
+
+    @Autowired
+    private MealBookingRepository mealBookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .name("Statement Count " + id)
+                .email(id + "@example.com")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void book(LocalDate date, BookingStatus status) {
+        mealBookingRepository.save(MealBooking.builder()
+                .user(user)
+                .bookingDate(date)
+                .bookedAt(LocalDateTime.now())
+                .status(status)
+                .build());
+    }
+
+    @Test
+    void bookSingleMeal() {
+        assertAtMost(3, "bookSingleMeal", () -> mealBookingService.bookSingleMeal(user, MONDAY));
+    }
+
+    @Test
+    void bookSingleMeal_RebookingCancelledMeal() {
+        book(MONDAY, BookingStatus.CANCELLED);
+
+        assertAtMost(4, "bookSingleMeal (rebook)", () -> mealBookingService.bookSingleMeal(user, MONDAY));
+    }
+
+    @Test
+    void bookRangeMeals_GrowsOnlyByOneWritePerBookedDay() {
+        book(MONDAY.plusDays(1), BookingStatus.BOOKED);
+        book(MONDAY.plusDays(2), BookingStatus.CANCELLED);
+
+        // Range lookup, 3 inserts, 1 reactivation, 1 notification.
+        assertAtMost(6, "bookRangeMeals (5 days)",
+                () -> mealBookingService.bookRangeMeals(user, MONDAY, MONDAY.plusDays(4)));
+        // Range lookup, 10 inserts, 1 notification.
+        assertAtMost(12, "bookRangeMeals (10 days)",
+                () -> mealBookingService.bookRangeMeals(user, MONDAY.plusDays(7), MONDAY.plusDays(18)));
+    }
+
+    @Test
+    void getUpcomingMeals() {
+        book(MONDAY, BookingStatus.BOOKED);
+        book(MONDAY.plusDays(1), BookingStatus.BOOKED);
+        book(MONDAY.plusDays(2), BookingStatus.CANCELLED);
+
+        assertAtMost(1, "getUpcomingMeals", () -> assertEquals(List.of(MONDAY.plusDays(1), MONDAY),
+                mealBookingService.getUpcomingMeals(user).getBookedDates()));
+    }
+
+    @Test
+    void cancelMealByUserIdAndDate() {
+        book(MONDAY, BookingStatus.BOOKED);
+
+        assertAtMost(4, "cancelMealByUserIdAndDate", () -> mealBookingService.cancelMealByUserIdAndDate(
+                user, new CancelMealRequestDTO(MONDAY)));
+    }
+
+    @Test
+    void cancelRangeMeals() {
+        for (int day = 0; day < 5; day++) {
+            book(MONDAY.plusDays(day), BookingStatus.BOOKED);
+        }
+
+        assertAtMost(2, "cancelRangeMeals", () -> mealBookingService.cancelRangeMeals(user, MONDAY, MONDAY.plusDays(4)));
+    }
+}
@@ -1,7 +1,10 @@
 package org.example.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.MealBookingConfig;
 import org.example.dto.CancelMealRequestDTO;
 import org.example.dto.RangeMealBookingResponseDTO;
+import org.example.dto.RangeMealCancellationResponseDTO;
 import org.example.dto.SingleMealBookingResponseDTO;
 import org.example.dto.UpcomingMealsResponseDTO;
 import org.example.entity.*;
@@ -13,11 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.*;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +47,12 @@ class MealBookingServiceTest {
     @Mock
     private PushNotificationService pushNotificationService;
 
+    @Spy
+    private BookingPolicy bookingPolicy = new BookingPolicy(new MealBookingConfig(), Clock.systemDefaultZone());
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private MealBookingServiceImpl mealBookingService;
 
@@ -77,10 +86,7 @@ class MealBookingServiceTest {
 
     @Test
     void shouldBookSingleMealSuccessfully() {
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, tomorrow, BookingStatus.BOOKED))
-                .thenReturn(false);
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(testUser, tomorrow, BookingStatus.CANCELLED))
-                .thenReturn(Optional.empty());
+        when(mealBookingRepository.findStatusByUserIdAndBookingDate(testUser.getId(), tomorrow)).thenReturn(Optional.empty());
         when(mealBookingRepository.save(any(MealBooking.class))).thenAnswer(invocation -> {
             MealBooking booking = invocation.getArgument(0);
             booking.setId(123L);
@@ -91,6 +97,8 @@ class MealBookingServiceTest {
         assertTrue(response.getMessage().contains("successfully"));
         assertEquals("Meal booked successfully for " + tomorrow, response.getMessage());
         assertEquals(tomorrow.toString(), response.getBookingDate());
+        assertEquals(1, meterRegistry.get("meal.booking")
+                .tag("operation", "book_single").tag("outcome", "success").timer().count());
         verify(notificationService).schedule(
                 testUser.getId(),
                 "Meal booked",
@@ -106,6 +114,8 @@ class MealBookingServiceTest {
 
         assertFalse(response.getMessage().contains("successfully"));
         assertEquals("Cannot book meals for past dates", response.getMessage());
+        assertEquals(1, meterRegistry.get("meal.booking")
+                .tag("operation", "book_single").tag("outcome", "rejected").timer().count());
         verifyNoInteractions(pushNotificationService);
     }
 
@@ -147,8 +157,8 @@ class MealBookingServiceTest {
 
     @Test
     void shouldFailToBookSingleMealForDuplicateBooking() {
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, tomorrow, BookingStatus.BOOKED))
-                .thenReturn(true);
+        when(mealBookingRepository.findStatusByUserIdAndBookingDate(testUser.getId(), tomorrow))
+                .thenReturn(Optional.of(BookingStatus.BOOKED));
 
         SingleMealBookingResponseDTO response = mealBookingService.bookSingleMeal(testUser, tomorrow);
 
@@ -166,10 +176,9 @@ class MealBookingServiceTest {
                 .status(BookingStatus.CANCELLED)
                 .build();
 
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, tomorrow, BookingStatus.BOOKED))
-                .thenReturn(false);
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(testUser, tomorrow, BookingStatus.CANCELLED))
-                .thenReturn(Optional.of(cancelledBooking));
+        when(mealBookingRepository.findStatusByUserIdAndBookingDate(testUser.getId(), tomorrow))
+                .thenReturn(Optional.of(BookingStatus.CANCELLED));
+        when(mealBookingRepository.findByUserIdAndBookingDate(testUser.getId(), tomorrow)).thenReturn(Optional.of(cancelledBooking));
         when(mealBookingRepository.save(any(MealBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         SingleMealBookingResponseDTO response = mealBookingService.bookSingleMeal(testUser, tomorrow);
@@ -212,10 +221,8 @@ class MealBookingServiceTest {
         LocalDate startDate = tomorrow;
         LocalDate endDate = tomorrow.plusDays(2);
 
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(eq(testUser), any(LocalDate.class), eq(BookingStatus.BOOKED)))
-                .thenReturn(false);
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(eq(testUser), any(LocalDate.class), eq(BookingStatus.CANCELLED)))
-                .thenReturn(Optional.empty());
+        when(mealBookingRepository.findByUserIdAndBookingDateBetween(testUser.getId(), startDate, endDate))
+                .thenReturn(List.of());
         when(mealBookingRepository.save(any(MealBooking.class))).thenAnswer(invocation -> {
             MealBooking booking = invocation.getArgument(0);
             booking.setId(System.currentTimeMillis());
@@ -248,14 +255,8 @@ class MealBookingServiceTest {
                 .status(BookingStatus.CANCELLED)
                 .build();
 
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(eq(testUser), any(LocalDate.class), eq(BookingStatus.BOOKED)))
-                .thenReturn(false);
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(testUser, middleDate, BookingStatus.CANCELLED))
-                .thenReturn(Optional.of(cancelledBooking));
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(eq(testUser), eq(startDate), eq(BookingStatus.CANCELLED)))
-                .thenReturn(Optional.empty());
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(eq(testUser), eq(endDate), eq(BookingStatus.CANCELLED)))
-                .thenReturn(Optional.empty());
+        when(mealBookingRepository.findByUserIdAndBookingDateBetween(testUser.getId(), startDate, endDate))
+                .thenReturn(List.of(cancelledBooking));
         when(mealBookingRepository.save(any(MealBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         RangeMealBookingResponseDTO response = mealBookingService.bookRangeMeals(testUser, startDate, endDate);
@@ -292,21 +293,15 @@ class MealBookingServiceTest {
                 .status(BookingStatus.CANCELLED)
                 .build();
 
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, startDate, BookingStatus.BOOKED))
-                .thenReturn(false);
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, secondDate, BookingStatus.BOOKED))
-                .thenReturn(true); // Already booked - should be skipped
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, thirdDate, BookingStatus.BOOKED))
-                .thenReturn(false);
-        when(mealBookingRepository.existsByUserAndBookingDateAndStatus(testUser, fourthDate, BookingStatus.BOOKED))
-                .thenReturn(false);
-
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(testUser, startDate, BookingStatus.CANCELLED))
-                .thenReturn(Optional.empty());
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(testUser, thirdDate, BookingStatus.CANCELLED))
-                .thenReturn(Optional.of(cancelledBooking));
-        when(mealBookingRepository.findByUserAndBookingDateAndStatus(testUser, fourthDate, BookingStatus.CANCELLED))
-                .thenReturn(Optional.empty());
+        MealBooking alreadyBooked = MealBooking.builder()
+                .id(3L)
+                .user(testUser)
+                .bookingDate(secondDate)
+                .status(BookingStatus.BOOKED)
+                .build();
+
+        when(mealBookingRepository.findByUserIdAndBookingDateBetween(testUser.getId(), startDate, endDate))
+                .thenReturn(List.of(alreadyBooked, cancelledBooking)); // secondDate already booked - should be skipped
 
         when(mealBookingRepository.save(any(MealBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -332,45 +327,15 @@ class MealBookingServiceTest {
 
     @Test
     void shouldGetUpcomingMealsSuccessfully() {
-        MealBooking pastBooking = MealBooking.builder()
-                .id(1L)
-                .user(testUser)
-                .bookingDate(today.minusDays(1))
-                .status(BookingStatus.BOOKED)
-                .build();
-
-        MealBooking todayBooking = MealBooking.builder()
-                .id(2L)
-                .user(testUser)
-                .bookingDate(today)
-                .status(BookingStatus.BOOKED)
-                .build();
-
-        MealBooking futureBooking = MealBooking.builder()
-                .id(3L)
-                .user(testUser)
-                .bookingDate(tomorrow)
-                .status(BookingStatus.BOOKED)
-                .build();
-
-        MealBooking cancelledBooking = MealBooking.builder()
-                .id(4L)
-                .user(testUser)
-                .bookingDate(nextWeek)
-                .status(BookingStatus.CANCELLED)
-                .build();
-
-        List<MealBooking> allBookings = Arrays.asList(pastBooking, todayBooking, futureBooking, cancelledBooking);
-        when(mealBookingRepository.findByUserOrderByBookingDateDesc(testUser)).thenReturn(allBookings);
+        when(mealBookingRepository.findBookedDatesFrom(testUser.getId(), today)).thenReturn(List.of(tomorrow, today));
 
         UpcomingMealsResponseDTO response = mealBookingService.getUpcomingMeals(testUser);
 
         assertNotNull(response);
-        assertEquals(2, response.getBookedDates().size());
-        assertTrue(response.getBookedDates().contains(today));
-        assertTrue(response.getBookedDates().contains(tomorrow));
-        assertFalse(response.getBookedDates().contains(today.minusDays(1)));
-        assertFalse(response.getBookedDates().contains(nextWeek));
+        assertEquals(List.of(tomorrow, today), response.getBookedDates());
+        assertEquals(1, meterRegistry.get("meal.booking")
+                .tags("operation", "upcoming", "outcome", "success")
+                .timer().count());
     }
 
     @Test
@@ -385,7 +350,7 @@ class MealBookingServiceTest {
                 .status(BookingStatus.BOOKED)
                 .build();
 
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, tomorrow)).thenReturn(Optional.of(existingBooking));
+        when(mealBookingRepository.findByUserIdAndBookingDate(testUser.getId(), tomorrow)).thenReturn(Optional.of(existingBooking));
 
         SingleMealBookingResponseDTO response = mealBookingService.cancelMealByUserIdAndDate(testUser, request);
 
@@ -452,7 +417,7 @@ class MealBookingServiceTest {
                 .status(BookingStatus.CANCELLED)
                 .build();
 
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, tomorrow))
+        when(mealBookingRepository.findByUserIdAndBookingDate(testUser.getId(), tomorrow))
                 .thenReturn(Optional.of(cancelledBooking));
 
         SingleMealBookingResponseDTO response = mealBookingService.cancelMealByUserIdAndDate(testUser, request);
@@ -469,7 +434,7 @@ class MealBookingServiceTest {
         CancelMealRequestDTO request = new CancelMealRequestDTO();
         request.setBookingDate(tomorrow);
 
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, tomorrow)).thenReturn(Optional.empty());
+        when(mealBookingRepository.findByUserIdAndBookingDate(testUser.getId(), tomorrow)).thenReturn(Optional.empty());
         SingleMealBookingResponseDTO response = mealBookingService.cancelMealByUserIdAndDate(testUser, request);
 
         assertFalse(response.getMessage().contains("successfully"));
@@ -477,4 +442,90 @@ class MealBookingServiceTest {
         verifyNoInteractions(notificationRepository);
         verifyNoInteractions(pushNotificationService);
     }
+
+    @Test
+    void shouldCancelRangeMealsWithSingleUpdate() {
+        LocalDate startDate = tomorrow;
+        LocalDate endDate = tomorrow.plusDays(4);
+
+        when(mealBookingRepository.cancelBookedMealsInRange(testUser.getId(), startDate, endDate, startDate.minusDays(1)))
+                .thenReturn(5);
+
+        RangeMealCancellationResponseDTO response = mealBookingService.cancelRangeMeals(testUser, startDate, endDate);
+
+        assertEquals("Meals cancelled successfully from " + startDate + " to " + endDate, response.getMessage());
+        assertEquals(5, response.getCancelledCount());
+        verify(mealBookingRepository, never()).findByUserIdAndBookingDate(any(), any());
+        verify(mealBookingRepository, never()).save(any());
+        verify(notificationService, times(1)).schedule(
+                testUser.getId(),
+                "Meals Cancelled",
+                "Meals cancelled from " + startDate + " to " + endDate + " (5 bookings)",
+                NotificationType.CANCELLATION_CONFIRMATION,
+                LocalDateTime.now(fixedClock)
+        );
+    }
+
+    @Test
+    void shouldExcludeTomorrowFromRangeCancellationAfterCutoffTime() {
+        Clock lateNightClock = Clock.fixed(
+                LocalDate.of(2026, 1, 25)
+                        .atTime(22, 30) // 10:30 PM
+                        .atZone(ZoneId.of("Asia/Kolkata"))
+                        .toInstant(),
+                ZoneId.of("Asia/Kolkata")
+        );
+        ReflectionTestUtils.setField(mealBookingService, "clock", lateNightClock);
+
+        LocalDate startDate = LocalDate.of(2026, 1, 26);
+        LocalDate endDate = LocalDate.of(2026, 1, 30);
+        when(mealBookingRepository.cancelBookedMealsInRange(testUser.getId(), startDate, endDate, startDate))
+                .thenReturn(4);
+
+        RangeMealCancellationResponseDTO response = mealBookingService.cancelRangeMeals(testUser, startDate, endDate);
+
+        assertEquals(4, response.getCancelledCount());
+        verify(mealBookingRepository).cancelBookedMealsInRange(testUser.getId(), startDate, endDate, startDate);
+    }
+
+    @Test
+    void shouldFailToCancelOnlyTomorrowAfterCutoffTime() {
+        Clock lateNightClock = Clock.fixed(
+                LocalDate.of(2026, 1, 25)
+                        .atTime(22, 30) // 10:30 PM
+                        .atZone(ZoneId.of("Asia/Kolkata"))
+                        .toInstant(),
+                ZoneId.of("Asia/Kolkata")
+        );
+        ReflectionTestUtils.setField(mealBookingService, "clock", lateNightClock);
+
+        LocalDate tomorrowDate = LocalDate.of(2026, 1, 26);
+        RangeMealCancellationResponseDTO response = mealBookingService.cancelRangeMeals(testUser, tomorrowDate, tomorrowDate);
+
+        assertEquals("Cancellation closed for tomorrow after 10 PM", response.getMessage());
+        assertNull(response.getCancelledCount());
+        verifyNoInteractions(mealBookingRepository);
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void shouldFailRangeCancellationWhenNothingBooked() {
+        LocalDate startDate = tomorrow;
+        LocalDate endDate = tomorrow.plusDays(2);
+        when(mealBookingRepository.cancelBookedMealsInRange(any(), any(), any(), any())).thenReturn(0);
+
+        RangeMealCancellationResponseDTO response = mealBookingService.cancelRangeMeals(testUser, startDate, endDate);
+
+        assertEquals("No booked meals found between " + startDate + " and " + endDate, response.getMessage());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void shouldFailRangeCancellationForPastOrInvertedRange() {
+        assertEquals("Cannot cancel meals for past dates",
+                mealBookingService.cancelRangeMeals(testUser, today.minusDays(1), tomorrow).getMessage());
+        assertEquals("End date cannot be before start date",
+                mealBookingService.cancelRangeMeals(testUser, nextWeek, tomorrow).getMessage());
+        verifyNoInteractions(mealBookingRepository);
+    }
 }
\ No newline at end of file
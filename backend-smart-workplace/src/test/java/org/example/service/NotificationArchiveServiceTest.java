@@ -0,0 +1,86 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.config.TestSecurityConfig;
+import org.example.entity.ArchivedNotification;
+import org.example.entity.Notification;
+import org.example.entity.NotificationType;
+import org.example.repository.ArchivedNotificationRepository;
+import org.example.repository.NotificationRepository;
+import org.example.scheduler.NotificationSenderScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.task.scheduling.enabled=true",
+        "notifications.archive-batch-size=2"
+})
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class NotificationArchiveServiceTest {
+
+    @Autowired
+    private NotificationArchiveService notificationArchiveService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ArchivedNotificationRepository archivedNotificationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Keeps the sender from dispatching the unsent fixture while the test runs.
+    @MockBean
+    private NotificationSenderScheduler notificationSenderScheduler;
+
+    private final Long userId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+
+    private Notification save(LocalDateTime scheduledAt, boolean sent) {
+        return notificationRepository.save(Notification.builder()
+                .userId(userId)
+                .title("Meal Reminder")
+                .message("Book your meal")
+                .type(NotificationType.MEAL_REMINDER)
+                .scheduledAt(scheduledAt)
+                .sent(sent)
+                .sentAt(sent ? scheduledAt : null)
+                .build());
+    }
+
+    @Test
+    void archiveExpired_MovesOldSentNotificationsInBatches() {
+        LocalDateTime old = LocalDateTime.now().minusDays(200).withNano(0);
+        List<Notification> expired = List.of(
+                save(old, true), save(old.plusMinutes(1), true), save(old.plusMinutes(2), true));
+        Notification oldUnsent = save(old, false);
+        Notification recent = save(LocalDateTime.now().minusDays(1), true);
+        double rowsBefore = meterRegistry.get("notification.archive.rows").counter().count();
+
+        int archived = notificationArchiveService.archiveExpired();
+
+        assertTrue(archived >= 3);
+        for (Notification notification : expired) {
+            assertFalse(notificationRepository.existsById(notification.getId()));
+            ArchivedNotification copy = archivedNotificationRepository.findById(notification.getId()).orElseThrow();
+            assertEquals(userId, copy.getUserId());
+            assertEquals(NotificationType.MEAL_REMINDER, copy.getType());
+            assertEquals(notification.getScheduledAt(), copy.getScheduledAt());
+        }
+        assertTrue(notificationRepository.existsById(oldUnsent.getId()));
+        assertTrue(notificationRepository.existsById(recent.getId()));
+        assertEquals(rowsBefore + archived, meterRegistry.get("notification.archive.rows").counter().count());
+        assertTrue(meterRegistry.get("notification.archive.batch").timer().count() >= 2);
+    }
+}
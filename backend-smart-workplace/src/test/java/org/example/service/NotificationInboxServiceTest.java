@@ -0,0 +1,110 @@
+package org.example.service;
+
+import org.example.config.TestSecurityConfig;
+import org.example.dto.NotificationPageDTO;
+import org.example.dto.NotificationResponseDTO;
+import org.example.entity.Notification;
+import org.example.entity.NotificationType;
+import org.example.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class NotificationInboxServiceTest {
+
+    @Autowired
+    private NotificationInboxService notificationInboxService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private final Long userId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+    private final LocalDateTime base = LocalDateTime.of(2026, 1, 20, 18, 0);
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Five sent notifications, two sharing a timestamp, plus one still pending.
+        ids.add(save(base, true));
+        ids.add(save(base.plusHours(1), true));
+        ids.add(save(base.plusHours(1), true));
+        ids.add(save(base.plusHours(2), true));
+        ids.add(save(base.plusHours(3), true));
+        save(base.plusDays(5), false);
+    }
+
+    private Long save(LocalDateTime scheduledAt, boolean sent) {
+        return notificationRepository.save(Notification.builder()
+                .userId(userId)
+                .title("Title")
+                .message("Message")
+                .type(NotificationType.MEAL_REMINDER)
+                .scheduledAt(scheduledAt)
+                .sent(sent)
+                .sentAt(sent ? scheduledAt : null)
+                .build()).getId();
+    }
+
+    @Test
+    void getInbox_PagesThroughSentNotificationsNewestFirstWithoutGapsOrRepeats() {
+        NotificationPageDTO first = notificationInboxService.getInbox(userId, null, 2);
+        NotificationPageDTO second = notificationInboxService.getInbox(userId, first.getNextCursor(), 2);
+        NotificationPageDTO third = notificationInboxService.getInbox(userId, second.getNextCursor(), 2);
+
+        List<Long> seen = new ArrayList<>();
+        for (NotificationPageDTO page : List.of(first, second, third)) {
+            page.getItems().stream().map(NotificationResponseDTO::getId).forEach(seen::add);
+        }
+
+        assertEquals(List.of(ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0)), seen);
+        assertNotNull(second.getNextCursor());
+        assertNull(third.getNextCursor());
+        assertEquals(5, first.getUnreadCount());
+    }
+
+    @Test
+    void getInbox_MalformedCursor_IsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> notificationInboxService.getInbox(userId, "not-a-cursor", 10));
+    }
+
+    @Test
+    void markRead_UpdatesOnlyOwnUnreadNotificationsAndTheCachedCount() {
+        assertEquals(5, notificationInboxService.getUnreadCount(userId));
+
+        int marked = notificationInboxService.markRead(userId, List.of(ids.get(0), ids.get(1), -1L));
+        int markedAgain = notificationInboxService.markRead(userId, List.of(ids.get(0)));
+
+        assertEquals(2, marked);
+        assertEquals(0, markedAgain);
+        assertEquals(3, notificationInboxService.getUnreadCount(userId));
+        assertNotNull(notificationRepository.findById(ids.get(0)).orElseThrow().getReadAt());
+    }
+
+    @Test
+    void unreadCount_FollowsNewNotificationsAndMarkAllRead() {
+        assertEquals(5, notificationInboxService.getUnreadCount(userId));
+
+        notificationService.createAndSendImmediately(userId, "Reminder", "Book tomorrow", NotificationType.MEAL_REMINDER);
+        assertEquals(6, notificationInboxService.getUnreadCount(userId));
+
+        assertEquals(6, notificationInboxService.markAllRead(userId));
+        assertEquals(0, notificationInboxService.getUnreadCount(userId));
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.NotificationConfig;
+import org.example.entity.Notification;
+import org.example.entity.NotificationType;
+import org.example.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationMetricsTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationMetrics metrics(Duration ttl) {
+        NotificationConfig config = new NotificationConfig();
+        config.setBacklogCacheTtl(ttl);
+        return new NotificationMetrics(notificationRepository, meterRegistry, config, Clock.systemDefaultZone());
+    }
+
+    @Test
+    void backlogGauge_IsCachedBetweenReads() {
+        metrics(Duration.ofMinutes(5));
+        when(notificationRepository.countBySentFalseAndScheduledAtBefore(any())).thenReturn(42L, 7L);
+
+        assertEquals(42.0, meterRegistry.get("notification.backlog").gauge().value());
+        assertEquals(42.0, meterRegistry.get("notification.backlog").gauge().value());
+
+        verify(notificationRepository, times(1)).countBySentFalseAndScheduledAtBefore(any());
+    }
+
+    @Test
+    void backlogGauge_RefreshesAfterTtl() {
+        metrics(Duration.ZERO);
+        when(notificationRepository.countBySentFalseAndScheduledAtBefore(any())).thenReturn(42L, 7L);
+
+        assertEquals(42.0, meterRegistry.get("notification.backlog").gauge().value());
+        assertEquals(7.0, meterRegistry.get("notification.backlog").gauge().value());
+    }
+
+    @Test
+    void recordLag_TracksSentMinusScheduledPerType() {
+        NotificationMetrics metrics = metrics(Duration.ofSeconds(15));
+        LocalDateTime scheduledAt = LocalDateTime.of(2026, 1, 26, 18, 0);
+
+        metrics.recordLag(Notification.builder()
+                .type(NotificationType.MEAL_REMINDER)
+                .scheduledAt(scheduledAt)
+                .sentAt(scheduledAt.plusSeconds(90))
+                .build());
+
+        Timer lag = meterRegistry.get("notification.lag").tag("type", "MEAL_REMINDER").timer();
+        assertEquals(1, lag.count());
+        assertEquals(90.0, lag.totalTime(TimeUnit.SECONDS));
+    }
+}
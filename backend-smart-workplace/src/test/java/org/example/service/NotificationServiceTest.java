@@ -18,6 +18,7 @@ import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +27,12 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationStreamHub notificationStreamHub;
+
+    @Mock
+    private UnreadCountCache unreadCountCache;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -272,4 +279,21 @@ class NotificationServiceTest {
                 java.util.Arrays.asList(userIds).contains(notification.getUserId())
         ));
     }
+
+    @Test
+    void createAndSendImmediately_ShouldSaveAndPushToOpenStreams() {
+        notificationService.createAndSendImmediately(3L, "Meal Reminder", "Book tomorrow", NotificationType.MEAL_REMINDER);
+
+        verify(notificationRepository).save(argThat(Notification::isSent));
+        verify(unreadCountCache).increment(3L);
+        verify(notificationStreamHub).publish(eq(3L), argThat(dto ->
+                dto.getType() == NotificationType.MEAL_REMINDER && dto.getTitle().equals("Meal Reminder")));
+    }
+
+    @Test
+    void schedule_ShouldNotPushBeforeDispatch() {
+        notificationService.schedule(3L, "Nudge", "We miss you", NotificationType.INACTIVITY_NUDGE, testTime.plusHours(1));
+
+        verifyNoInteractions(notificationStreamHub);
+    }
 }
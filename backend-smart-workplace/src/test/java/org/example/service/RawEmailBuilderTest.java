@@ -0,0 +1,40 @@
+package org.example.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RawEmailBuilderTest {
+
+    @Test
+    void build_ProducesMultipartMessageWithBase64Attachment(@TempDir Path dir) throws IOException {
+        byte[] csv = "Name,Email\r\nAsha,asha@test.com\r\n".getBytes(StandardCharsets.UTF_8);
+        Path csvFile = Files.write(dir.resolve("bookings.csv"), csv);
+
+        String message = new String(new RawEmailBuilder()
+                .from("noreply@test.com")
+                .to("hr@test.com")
+                .subject("🍽️ Summary")
+                .textBody("plain")
+                .htmlBody("<p>html</p>")
+                .attachment("bookings.csv", "text/csv", csvFile)
+                .build(), StandardCharsets.US_ASCII);
+
+        assertTrue(message.startsWith("From: noreply@test.com\r\nTo: hr@test.com\r\nSubject: =?UTF-8?B?"));
+        assertTrue(message.contains("Content-Type: multipart/mixed; boundary=\"mixed-"));
+        assertTrue(message.contains("Content-Type: multipart/alternative; boundary=\"alt-"));
+        assertTrue(message.contains("Content-Disposition: attachment; filename=\"bookings.csv\""));
+
+        String afterDisposition = message.substring(message.indexOf("filename=\"bookings.csv\"\r\n\r\n") + 27);
+        String encoded = afterDisposition.substring(0, afterDisposition.indexOf("\r\n--"));
+        assertArrayEquals(csv, Base64.getMimeDecoder().decode(encoded));
+        assertTrue(message.trim().endsWith("--"));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.service;
+
+import org.example.config.TestSecurityConfig;
+import org.example.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class SchedulerLockServiceTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Instant start = Instant.parse("2026-01-26T12:30:00Z");
+
+    private SchedulerLockService nodeA;
+    private SchedulerLockService nodeB;
+
+    private String job;
+
+    @BeforeEach
+    void setUp() {
+        job = "test-job-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    private void createNodes(Clock clockA, Clock clockB) {
+        nodeA = new SchedulerLockService(schedulerLockRepository, transactionManager, clockA, "node-a");
+        nodeB = new SchedulerLockService(schedulerLockRepository, transactionManager, clockB, "node-b");
+    }
+
+    @Test
+    void runLocked_WhileHeld_OtherInstanceSkips() {
+        Clock clock = Clock.fixed(start, ZoneOffset.UTC);
+        createNodes(clock, clock);
+        AtomicBoolean nestedRan = new AtomicBoolean();
+
+        boolean ran = nodeA.runLocked(job, LEASE, Duration.ZERO,
+                () -> nestedRan.set(nodeB.runLocked(job, LEASE, Duration.ZERO, () -> { })));
+
+        assertTrue(ran);
+        assertFalse(nestedRan.get());
+        assertEquals("node-a", schedulerLockRepository.findById(job).orElseThrow().getLockedBy());
+    }
+
+    @Test
+    void runLocked_AfterRelease_OtherInstanceRuns() {
+        Clock clock = Clock.fixed(start, ZoneOffset.UTC);
+        createNodes(clock, clock);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(nodeA.runLocked(job, LEASE, Duration.ZERO, runs::incrementAndGet));
+        assertTrue(nodeB.runLocked(job, LEASE, Duration.ZERO, runs::incrementAndGet));
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void runLocked_LockAtLeastFor_BlocksLateFiringInstance() {
+        createNodes(Clock.fixed(start, ZoneOffset.UTC), Clock.fixed(start.plusSeconds(5), ZoneOffset.UTC));
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(nodeA.runLocked(job, LEASE, Duration.ofMinutes(1), runs::incrementAndGet));
+        assertFalse(nodeB.runLocked(job, LEASE, Duration.ofMinutes(1), runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void runLocked_ExpiredLease_IsTakenOver() {
+        createNodes(Clock.fixed(start, ZoneOffset.UTC), Clock.fixed(start.plus(LEASE), ZoneOffset.UTC));
+
+        assertTrue(nodeA.tryAcquire(job, start, LEASE));
+        assertTrue(nodeB.runLocked(job, LEASE, Duration.ZERO, () -> { }));
+        assertEquals("node-b", schedulerLockRepository.findById(job).orElseThrow().getLockedBy());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.config.OfficeLocationConfig;
+import org.example.config.TestSecurityConfig;
+import org.example.dto.LocationUpdateRequestDTO;
+import org.example.entity.BookingStatus;
+import org.example.entity.MealBooking;
+import org.example.entity.Role;
+import org.example.entity.User;
+import org.example.repository.MealBookingRepository;
+import org.example.repository.UserLocationRepository;
+import org.example.repository.UserRepository;
+import org.example.support.StatementCountingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.*;
+import java.util.UUID;
+
+import static org.example.support.SqlStatementCounter.assertAtMost;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Upper bounds on the SQL a location update issues on each of its paths,
+ * including the booking updates {@link LunchAttendanceListener} makes when
+ * the fix crosses the geofence.
+ */
+@SpringBootTest(properties = "spring.task.scheduling.enabled=true")
+@Import({TestSecurityConfig.class, StatementCountingConfig.class})
+@ActiveProfiles("test")
+class UserLocationServiceStatementCountTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 26);
+
+    @Autowired
+    private UserLocationRepository userLocationRepository;
+
+    @Autowired
+    private LocationHistoryService locationHistoryService;
+
+    @Autowired
+    private MealBookingRepository mealBookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingPolicy bookingPolicy;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private GeofenceTracker geofenceTracker;
+    private User user;
+
+    private final LocationUpdateRequestDTO inside = LocationUpdateRequestDTO.builder()
+            .latitude(18.5204)
+            .longitude(73.8567)
+            .accuracy(10.0)
+            .build();
+
+    private final LocationUpdateRequestDTO outside = LocationUpdateRequestDTO.builder()
+            .latitude(19.1)
+            .longitude(74.5)
+            .accuracy(10.0)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        OfficeLocationConfig office = new OfficeLocationConfig();
+        office.setLatitude(18.5204);
+        office.setLongitude(73.8567);
+        office.setRadiusMeters(500);
+        office.setMinDwell(Duration.ZERO);
+        geofenceTracker = new GeofenceTracker(office, eventPublisher);
+
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .name("Statement Count " + id)
+                .email(id + "@example.com")
+                .role(Role.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        mealBookingRepository.save(MealBooking.builder()
+                .user(user)
+                .bookingDate(MONDAY)
+                .bookedAt(MONDAY.minusDays(3).atTime(10, 0))
+                .status(BookingStatus.BOOKED)
+                .availableForLunch(false)
+                .build());
+    }
+
+    private UserLocationService serviceAt(int hour, int minute) {
+        Clock clock = Clock.fixed(MONDAY.atTime(hour, minute).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new UserLocationService(userLocationRepository, locationHistoryService, bookingPolicy,
+                geofenceTracker, clock, meterRegistry);
+    }
+
+    private MealBooking booking() {
+        return mealBookingRepository.findByUserIdAndBookingDate(user.getId(), MONDAY).orElseThrow();
+    }
+
+    @Test
+    void saveLocation_OutsideNoTransition() {
+        assertAtMost(2, "saveLocation (outside)", () -> serviceAt(11, 0).saveLocation(user.getId(), outside));
+    }
+
+    @Test
+    void saveLocation_EnteringMarksBookingAvailable() {
+        serviceAt(11, 0).saveLocation(user.getId(), outside);
+
+        assertAtMost(5, "saveLocation (enter)", () -> serviceAt(12, 0).saveLocation(user.getId(), inside));
+        assertTrue(booking().getAvailableForLunch());
+    }
+}
@@ -1,23 +1,23 @@
 package org.example.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.MealBookingConfig;
+import org.example.config.OfficeLocationConfig;
+import org.example.dto.LocationFixDTO;
 import org.example.dto.LocationUpdateRequestDTO;
-import org.example.entity.BookingStatus;
-import org.example.entity.MealBooking;
-import org.example.entity.User;
 import org.example.entity.UserLocation;
-import org.example.repository.MealBookingRepository;
+import org.example.event.GeofenceTransition;
+import org.example.event.GeofenceTransitionEvent;
 import org.example.repository.UserLocationRepository;
-import org.example.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.*;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,188 +30,162 @@ class UserLocationServiceTest {
     private UserLocationRepository userLocationRepository;
 
     @Mock
-    private MealBookingRepository mealBookingRepository;
+    private LocationHistoryService locationHistoryService;
 
     @Mock
-    private UserRepository userRepository;
+    private ApplicationEventPublisher eventPublisher;
 
+    private GeofenceTracker geofenceTracker;
     private Clock clock;
-
-    @InjectMocks
     private UserLocationService userLocationService;
 
-    private User testUser;
-    private MealBooking testBooking;
-    private LocationUpdateRequestDTO locationRequest;
+    private LocationUpdateRequestDTO insideLocation;
+    private LocationUpdateRequestDTO farLocation;
     private LocalDate testDate;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setUp() {
         testDate = LocalDate.of(2026, 1, 26); // Monday
 
-        clock = Clock.fixed(
-                testDate.atTime(13, 0).toInstant(ZoneOffset.UTC),
-                ZoneOffset.UTC
-        );
-
-        userLocationService = new UserLocationService(
-                userLocationRepository,
-                mealBookingRepository,
-                userRepository,
-                clock
-        );
+        OfficeLocationConfig office = new OfficeLocationConfig();
+        office.setLatitude(18.5204);
+        office.setLongitude(73.8567);
+        office.setRadiusMeters(500);
+        office.setMinDwell(Duration.ZERO);
+        geofenceTracker = new GeofenceTracker(office, eventPublisher);
 
-        testUser = User.builder()
-                .id(3L)
-                .name("Test User")
+        insideLocation = LocationUpdateRequestDTO.builder()
+                .latitude(18.5204)
+                .longitude(73.8567)
                 .build();
 
-        testBooking = MealBooking.builder()
-                .id(1L)
-                .user(testUser)
-                .bookingDate(testDate)
-                .status(BookingStatus.BOOKED)
-                .availableForLunch(false)
-                .bookedAt(LocalDateTime.now(clock))
+        farLocation = LocationUpdateRequestDTO.builder()
+                .latitude(19.1)
+                .longitude(74.5)
                 .build();
 
-        locationRequest = LocationUpdateRequestDTO.builder()
-                .latitude(18.5204)
-                .longitude(73.8567)
-                .build();
+        setClockTime(testDate, 13, 0);
+    }
 
-        ReflectionTestUtils.setField(userLocationService, "officeLatitude", 18.5204);
-        ReflectionTestUtils.setField(userLocationService, "officeLongitude", 73.8567);
-        ReflectionTestUtils.setField(userLocationService, "geofenceRadiusMeters", 500.0);
+    private void setClockTime(LocalDate date, int hour, int minute) {
+        clock = Clock.fixed(date.atTime(hour, minute).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        userLocationService = new UserLocationService(
+                userLocationRepository,
+                locationHistoryService,
+                new BookingPolicy(new MealBookingConfig(), Clock.systemDefaultZone()),
+                geofenceTracker,
+                clock,
+                meterRegistry
+        );
     }
 
     private void setClockTime(int hour, int minute) {
-        clock = Clock.fixed(
-                testDate.atTime(hour, minute).atZone(ZoneId.systemDefault()).toInstant(),
-                ZoneId.systemDefault()
-        );
-        ReflectionTestUtils.setField(userLocationService, "clock", clock);
+        setClockTime(testDate, hour, minute);
     }
 
     @Test
     void saveLocation_Weekend_ShouldSkipProcessing() {
-        Clock weekendClock = Clock.fixed(
-                LocalDate.of(2026, 1, 24)
-                        .atTime(10, 0)
-                        .toInstant(ZoneOffset.UTC),
-                ZoneOffset.UTC
-        );
-
-        userLocationService = new UserLocationService(
-                userLocationRepository,
-                mealBookingRepository,
-                userRepository,
-                weekendClock
-        );
+        setClockTime(LocalDate.of(2026, 1, 24), 10, 0);
 
-        userLocationService.saveLocation(3L, locationRequest);
+        userLocationService.saveLocation(3L, insideLocation);
 
         verify(userLocationRepository, never()).save(any());
-        verify(mealBookingRepository, never()).findByUserAndBookingDate(any(), any());
+        verifyNoInteractions(locationHistoryService, eventPublisher);
     }
 
     @Test
-    void saveLocation_OutsideLunchHours_ShouldSaveLocationOnly() {
+    void saveLocation_WorkingDay_ShouldSaveLatestAndAppendFixToHistory() {
         setClockTime(11, 0);
 
-        userLocationService.saveLocation(3L, locationRequest);
+        userLocationService.saveLocation(3L, farLocation);
 
         verify(userLocationRepository).save(any(UserLocation.class));
-        verify(mealBookingRepository, never()).findByUserAndBookingDate(any(), any());
+        verify(locationHistoryService).record(LocationFixDTO.builder()
+                .userId(3L)
+                .latitude(19.1)
+                .longitude(74.5)
+                .recordedAt(LocalDateTime.now(clock))
+                .build());
     }
 
     @Test
-    void saveLocation_DuringLunchHours_UserNotFound_ShouldSaveLocationOnly() {
-        setClockTime(13, 0);
-        when(userRepository.findById(3L)).thenReturn(Optional.empty());
+    void saveLocation_InaccurateFix_ShouldNotBeStored() {
+        LocationUpdateRequestDTO inaccurate = LocationUpdateRequestDTO.builder()
+                .latitude(18.5204)
+                .longitude(73.8567)
+                .accuracy(250.0)
+                .build();
 
-        userLocationService.saveLocation(3L, locationRequest);
+        userLocationService.saveLocation(3L, inaccurate);
 
-        verify(userLocationRepository).save(any(UserLocation.class));
-        verify(mealBookingRepository, never()).findByUserAndBookingDate(any(), any());
+        verifyNoInteractions(userLocationRepository, locationHistoryService, eventPublisher);
+        assertEquals(1, meterRegistry.get("location.update").tag("decision", "inaccurate_fix").timer().count());
     }
 
     @Test
-    void saveLocation_DuringLunchHours_NoBooking_ShouldSaveLocationOnly() {
-        setClockTime(13, 0);
-        when(userRepository.findById(3L)).thenReturn(Optional.of(testUser));
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, testDate))
-                .thenReturn(Optional.empty());
-
-        userLocationService.saveLocation(3L, locationRequest);
+    void saveLocation_DuplicateFix_ShouldNotBeStoredAgain() {
+        userLocationService.saveLocation(3L, farLocation);
+        setClockTime(13, 1);
+        userLocationService.saveLocation(3L, farLocation);
 
-        verify(userLocationRepository).save(any(UserLocation.class));
-        verify(mealBookingRepository).findByUserAndBookingDate(testUser, testDate);
+        verify(userLocationRepository, times(1)).save(any(UserLocation.class));
+        verify(locationHistoryService, times(1)).record(any());
+        assertEquals(1, meterRegistry.get("location.update").tag("decision", "duplicate_fix").timer().count());
     }
 
     @Test
-    void saveLocation_DuringLunchHours_AlreadyAvailable_ShouldSaveLocationOnly() {
-        setClockTime(13, 0);
-        testBooking.setAvailableForLunch(true);
-
-        when(userRepository.findById(3L)).thenReturn(Optional.of(testUser));
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, testDate))
-                .thenReturn(Optional.of(testBooking));
-
-        userLocationService.saveLocation(3L, locationRequest);
-
-        verify(userLocationRepository).save(any(UserLocation.class));
-        verify(mealBookingRepository, never()).save(any());
+    void saveLocation_FirstPingInside_ShouldPublishEnterWithoutTouchingBookings() {
+        userLocationService.saveLocation(3L, insideLocation);
+
+        ArgumentCaptor<GeofenceTransitionEvent> event = ArgumentCaptor.forClass(GeofenceTransitionEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(GeofenceTransition.ENTER, event.getValue().getTransition());
+        assertEquals(3L, event.getValue().getUserId());
+        assertEquals(1, meterRegistry.get("location.update").tag("decision", "inside_geofence").timer().count());
     }
 
     @Test
-    void saveLocation_DuringLunchHours_UserWithinGeofence_ShouldMarkAvailable() {
-        setClockTime(13, 0);
-
-        when(userRepository.findById(3L)).thenReturn(Optional.of(testUser));
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, testDate))
-                .thenReturn(Optional.of(testBooking));
-
-        userLocationService.saveLocation(3L, locationRequest);
-
-        verify(userLocationRepository).save(any(UserLocation.class));
-        verify(mealBookingRepository).save(testBooking);
-        assertTrue(testBooking.getAvailableForLunch());
+    void saveLocation_RepeatedPingsInSameZone_ShouldPublishOnce() {
+        userLocationService.saveLocation(3L, insideLocation);
+        setClockTime(13, 5);
+        userLocationService.saveLocation(3L, insideLocation);
+        setClockTime(13, 10);
+        userLocationService.saveLocation(3L, insideLocation);
+
+        verify(eventPublisher, times(1)).publishEvent(any(GeofenceTransitionEvent.class));
     }
 
     @Test
-    void saveLocation_DuringLunchHours_UserOutsideGeofence_ShouldRemainUnavailable() {
-        setClockTime(13, 0);
-
-        LocationUpdateRequestDTO farLocation = LocationUpdateRequestDTO.builder()
-                .latitude(19.1)
-                .longitude(74.5)
-                .build();
-
-        when(userRepository.findById(3L)).thenReturn(Optional.of(testUser));
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, testDate))
-                .thenReturn(Optional.of(testBooking));
-
+    void saveLocation_FirstPingOutside_ShouldPublishNothing() {
         userLocationService.saveLocation(3L, farLocation);
 
-        verify(mealBookingRepository, never()).save(any());
-        assertFalse(testBooking.getAvailableForLunch());
+        verifyNoInteractions(eventPublisher);
+        assertEquals(GeofenceTracker.Zone.OUTSIDE, geofenceTracker.currentZone(3L));
     }
 
     @Test
-    void saveLocation_AtLunchEnd_UserOutsideGeofence_ShouldMarkDefaulted() {
-        setClockTime(14, 30);
+    void saveLocation_LeavingOffice_ShouldPublishExitWithDwell() {
+        setClockTime(12, 10);
+        userLocationService.saveLocation(3L, insideLocation);
+        setClockTime(12, 55);
+        userLocationService.saveLocation(3L, farLocation);
 
-        LocationUpdateRequestDTO farLocation = LocationUpdateRequestDTO.builder()
-                .latitude(19.1)
-                .longitude(74.5)
-                .build();
+        ArgumentCaptor<GeofenceTransitionEvent> events = ArgumentCaptor.forClass(GeofenceTransitionEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        GeofenceTransitionEvent exit = events.getAllValues().get(1);
+        assertEquals(GeofenceTransition.EXIT, exit.getTransition());
+        assertEquals(Duration.ofMinutes(45), exit.getDwell());
+    }
 
-        when(userRepository.findById(3L)).thenReturn(Optional.of(testUser));
-        when(mealBookingRepository.findByUserAndBookingDate(testUser, testDate))
-                .thenReturn(Optional.of(testBooking));
-        userLocationService.saveLocation(3L, farLocation);
+    @Test
+    void saveLocation_InsideYesterday_ShouldPublishEnterAgainToday() {
+        setClockTime(LocalDate.of(2026, 1, 23), 13, 0);
+        userLocationService.saveLocation(3L, insideLocation);
+        setClockTime(9, 0);
+        userLocationService.saveLocation(3L, insideLocation);
 
-        verify(userLocationRepository).save(any(UserLocation.class));
+        verify(eventPublisher, times(2)).publishEvent(any(GeofenceTransitionEvent.class));
     }
 }
@@ -0,0 +1,206 @@
+package org.example.smoke;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Boots the packaged application as a separate process on an in-memory H2
+ * database and drives the booking and location endpoints with a signed
+ * token. The command comes from {@code -Dsmoke.command}: the native binary
+ * for {@code nativeSmokeTest}, {@code java -jar} on the boot jar for
+ * {@code jvmSmokeTest}. Prints the time to the first health response and the
+ * process's resident memory once the requests have run.
+ */
+@Tag("smoke")
+class PackagedApplicationSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private static Process application;
+    private static Path workDir;
+    private static String baseUrl;
+    private static RSAPrivateKey signingKey;
+    private static Duration startup;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void start() throws Exception {
+        String command = System.getProperty("smoke.command");
+        if (command == null || command.isBlank()) {
+            fail("-Dsmoke.command is not set; run through the jvmSmokeTest or nativeSmokeTest task");
+        }
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        signingKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        workDir = Files.createTempDirectory("smoke");
+        Path publicKey = workDir.resolve("public.pem");
+        Files.writeString(publicKey, "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(keyPair.getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----\n");
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+
+        List<String> arguments = new ArrayList<>(List.of(command.trim().split("\\s+")));
+        arguments.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.security.oauth2.resourceserver.jwt.public-key-location=file:" + publicKey,
+                "--logging.level.root=WARN"
+        ));
+
+        Instant launched = Instant.now();
+        application = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("application.log").toFile())
+                .start();
+        startup = awaitHealth(launched);
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (application != null) {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    @Test
+    void bookingAndLocationEndpointsRespond() throws Exception {
+        String token = token("smoke-user");
+        LocalDate date = bookableDate();
+
+        HttpResponse<String> booked = post("/api/meals/book-single", token, "{\"date\":\"" + date + "\"}");
+        assertEquals(200, booked.statusCode(), booked.body());
+        assertTrue(booked.body().contains(date.toString()), booked.body());
+
+        HttpResponse<String> upcoming = post("/api/meals/upcoming", token, "{}");
+        assertEquals(200, upcoming.statusCode(), upcoming.body());
+        assertTrue(upcoming.body().contains(date.toString()), upcoming.body());
+
+        HttpResponse<String> location = post("/api/location/update", token,
+                "{\"latitude\":12.9716,\"longitude\":77.5946,\"accuracy\":15.0}");
+        assertEquals(200, location.statusCode(), location.body());
+        assertEquals("Location updated successfully", location.body());
+
+        System.out.printf("Smoke: first health response after %d ms, RSS %s%n",
+                startup.toMillis(), residentMemory(application.pid()));
+    }
+
+    private HttpResponse<String> post(String path, String token, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String token(String objectId) throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), new JWTClaimsSet.Builder()
+                .subject(objectId)
+                .claim("oid", objectId)
+                .claim("email", objectId + "@smoke.example.com")
+                .claim("name", "Smoke User")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(600)))
+                .build());
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    /**
+     * A weekday at least two days out in the office time zone, clear of the
+     * cutoff for tomorrow's booking.
+     */
+    private static LocalDate bookableDate() {
+        LocalDate date = LocalDate.now(ZoneId.of("Asia/Kolkata")).plusDays(2);
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+    private static Duration awaitHealth(Instant launched) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+        while (Duration.between(launched, Instant.now()).compareTo(STARTUP_TIMEOUT) < 0) {
+            if (!application.isAlive()) {
+                fail("Application exited with " + application.exitValue() + ":\n" + log());
+            }
+            try {
+                client.send(health, HttpResponse.BodyHandlers.discarding());
+                return Duration.between(launched, Instant.now());
+            } catch (IOException notListeningYet) {
+                Thread.sleep(20);
+            }
+        }
+        fail("No health response within " + STARTUP_TIMEOUT + ":\n" + log());
+        return null;
+    }
+
+    private static String residentMemory(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return "n/a";
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("n/a");
+    }
+
+    private static String log() throws IOException {
+        return Files.readString(workDir.resolve("application.log"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
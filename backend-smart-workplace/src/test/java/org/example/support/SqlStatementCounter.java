@@ -0,0 +1,118 @@
+package org.example.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the statements prepared on JDBC connections while an action runs.
+ * Only statements from the calling thread and from threads it starts (the
+ * chunked job workers, for instance) are counted, so schedulers already
+ * running in the background do not leak into a measurement. Works for
+ * Hibernate and {@code JdbcTemplate} alike once the data source has been
+ * wrapped by {@link StatementCountingConfig}.
+ */
+public final class SqlStatementCounter {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("prepareStatement", "prepareCall", "createStatement");
+    private static final InheritableThreadLocal<AtomicInteger> CURRENT = new InheritableThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * @return the number of statements {@code action} prepared
+     */
+    public static int count(Runnable action) {
+        try (Recording recording = record()) {
+            action.run();
+            return recording.statements();
+        }
+    }
+
+    /**
+     * Starts counting on the calling thread until the returned recording is
+     * closed; recordings nest, an inner one's statements also count for the
+     * outer one.
+     */
+    public static Recording record() {
+        Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording.counter);
+        return recording;
+    }
+
+    public static void assertAtMost(int max, String description, Runnable action) {
+        int statements = count(action);
+        assertTrue(statements <= max,
+                () -> description + " issued " + statements + " SQL statements, expected at most " + max);
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final AtomicInteger outer;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private Recording(AtomicInteger outer) {
+            this.outer = outer;
+        }
+
+        public int statements() {
+            return counter.get();
+        }
+
+        @Override
+        public void close() {
+            CURRENT.set(outer);
+            if (outer != null) {
+                outer.addAndGet(counter.get());
+            }
+        }
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection counting(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                AtomicInteger counter = CURRENT.get();
+                if (counter != null) {
+                    counter.incrementAndGet();
+                }
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(
+                SqlStatementCounter.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}